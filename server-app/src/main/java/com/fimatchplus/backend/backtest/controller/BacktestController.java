@@ -1,5 +1,6 @@
 package com.fimatchplus.backend.backtest.controller;
 import com.fimatchplus.backend.backtest.domain.Backtest;
+import com.fimatchplus.backend.backtest.domain.BacktestDetailVersion;
 import com.fimatchplus.backend.backtest.dto.CreateBacktestRequest;
 import com.fimatchplus.backend.backtest.dto.CreateBacktestResult;
 import com.fimatchplus.backend.backtest.dto.UpdateBacktestRequest;
@@ -20,11 +21,13 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import jakarta.servlet.http.HttpServletRequest;
 import com.fimatchplus.backend.backtest.dto.BacktestCallbackResponse;
 
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 @Slf4j
@@ -103,12 +106,19 @@ public class BacktestController {
      * <ul>
      *     <li>백테스트 ID로 상세 정보 조회</li>
      *     <li>성과 지표, 일별 평가액, 포트폴리오 보유 정보 포함</li>
+     *     <li>완료된 백테스트는 ETag / Last-Modified로 조건부 조회 지원 (변경 없으면 304)</li>
      * </ul>
      */
     @GetMapping("/{backtestId}")
-    public ApiResponse<BacktestDetailResponse> getBacktestDetail(@PathVariable Long backtestId) {
+    public ApiResponse<BacktestDetailResponse> getBacktestDetail(@PathVariable Long backtestId, WebRequest webRequest) {
         
         log.info("GET /api/backtests/{}", backtestId);
+
+        Optional<BacktestDetailVersion> version = backtestQueryService.getBacktestDetailVersion(backtestId);
+        if (version.isPresent() && webRequest.checkNotModified(version.get().eTag(), version.get().lastModifiedMillis())) {
+            log.debug("Backtest detail not modified - backtestId: {}", backtestId);
+            return null;
+        }
         
         BacktestDetailResponse response = backtestQueryService.getBacktestDetail(backtestId);
         
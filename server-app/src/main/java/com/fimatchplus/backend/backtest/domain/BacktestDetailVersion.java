@@ -0,0 +1,48 @@
+package com.fimatchplus.backend.backtest.domain;
+
+import com.fimatchplus.backend.backtest.dto.BacktestStatus;
+import com.fimatchplus.backend.common.util.ETagUtil;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 백테스트 상세 응답의 데이터 버전 (조건부 조회용)
+ */
+public record BacktestDetailVersion(
+        Long backtestId,
+        BacktestStatus status,
+        Long snapshotId,
+        LocalDateTime snapshotCreatedAt,
+        LocalDateTime reportCreatedAt
+) {
+
+    /**
+     * 완료되어 결과 스냅샷이 있는 경우에만 결과가 고정됨
+     */
+    public boolean isFinal() {
+        return status == BacktestStatus.COMPLETED && snapshotId != null;
+    }
+
+    public String eTag() {
+        return ETagUtil.of("backtest", backtestId, status, snapshotId, snapshotCreatedAt, reportCreatedAt);
+    }
+
+    public long lastModifiedMillis() {
+        LocalDateTime lastModified = lastModified();
+        return lastModified != null ? lastModified.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1L;
+    }
+
+    /**
+     * 리포트 생성 시각과 스냅샷 생성 시각 중 늦은 시각
+     */
+    public LocalDateTime lastModified() {
+        if (reportCreatedAt == null) {
+            return snapshotCreatedAt;
+        }
+        if (snapshotCreatedAt == null || reportCreatedAt.isAfter(snapshotCreatedAt)) {
+            return reportCreatedAt;
+        }
+        return snapshotCreatedAt;
+    }
+}
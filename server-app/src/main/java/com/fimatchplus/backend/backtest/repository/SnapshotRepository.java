@@ -1,9 +1,11 @@
 package com.fimatchplus.backend.backtest.repository;
 
+import com.fimatchplus.backend.backtest.domain.BacktestDetailVersion;
 import com.fimatchplus.backend.backtest.domain.HoldingSnapshot;
 import com.fimatchplus.backend.backtest.domain.PortfolioSnapshot;
 
 import java.util.List;
+import java.util.Optional;
 
 /**
  * 백테스트 결과 스냅샷 저장 및 조회를 위한 리포지토리
@@ -13,6 +15,7 @@ public interface SnapshotRepository {
     PortfolioSnapshot savePortfolioSnapshot(PortfolioSnapshot snapshot);
     PortfolioSnapshot findLatestPortfolioSnapshotByBacktestId(Long backtestId);
     PortfolioSnapshot findById(Long id);
+    Optional<BacktestDetailVersion> findDetailVersionByBacktestId(Long backtestId);
     
     HoldingSnapshot saveHoldingSnapshot(HoldingSnapshot holdingSnapshot);
     int saveHoldingSnapshotsBatch(List<HoldingSnapshot> holdingSnapshots);
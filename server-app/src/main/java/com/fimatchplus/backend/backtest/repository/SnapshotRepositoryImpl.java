@@ -1,7 +1,9 @@
 package com.fimatchplus.backend.backtest.repository;
 
+import com.fimatchplus.backend.backtest.domain.BacktestDetailVersion;
 import com.fimatchplus.backend.backtest.domain.HoldingSnapshot;
 import com.fimatchplus.backend.backtest.domain.PortfolioSnapshot;
+import com.fimatchplus.backend.backtest.dto.BacktestStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.jdbc.support.GeneratedKeyHolder;
@@ -15,6 +17,7 @@ import java.sql.Types;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 import org.postgresql.util.PGobject;
 
@@ -346,4 +349,34 @@ public class SnapshotRepositoryImpl implements SnapshotRepository {
             return null;
         }
     }
+
+    @Override
+    public Optional<BacktestDetailVersion> findDetailVersionByBacktestId(Long backtestId) {
+        String sql = """
+            SELECT b.id, b.status, ps.id AS snapshot_id, ps.created_at, ps.report_created_at
+            FROM backtests b
+            LEFT JOIN LATERAL (
+                SELECT id, created_at, report_created_at
+                FROM portfolio_snapshots
+                WHERE backtest_id = b.id
+                ORDER BY created_at DESC
+                LIMIT 1
+            ) ps ON TRUE
+            WHERE b.id = ? AND b.deleted_at IS NULL
+            """;
+
+        List<BacktestDetailVersion> results = jdbcTemplate.query(sql, (rs, rowNum) -> {
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            Timestamp reportCreatedAt = rs.getTimestamp("report_created_at");
+            return new BacktestDetailVersion(
+                    rs.getLong("id"),
+                    rs.getString("status") != null ? BacktestStatus.valueOf(rs.getString("status")) : null,
+                    rs.getObject("snapshot_id") != null ? rs.getLong("snapshot_id") : null,
+                    createdAt != null ? createdAt.toLocalDateTime() : null,
+                    reportCreatedAt != null ? reportCreatedAt.toLocalDateTime() : null
+            );
+        }, backtestId);
+
+        return results.stream().findFirst();
+    }
 }
@@ -1,6 +1,7 @@
 package com.fimatchplus.backend.backtest.service;
 
 import com.fimatchplus.backend.backtest.domain.Backtest;
+import com.fimatchplus.backend.backtest.domain.BacktestDetailVersion;
 import com.fimatchplus.backend.backtest.domain.HoldingSnapshot;
 import com.fimatchplus.backend.backtest.domain.PortfolioSnapshot;
 import com.fimatchplus.backend.backtest.domain.BenchmarkPrice;
@@ -12,12 +13,14 @@ import com.fimatchplus.backend.backtest.repository.BacktestRepository;
 import com.fimatchplus.backend.backtest.repository.SnapshotRepository;
 import com.fimatchplus.backend.backtest.repository.BenchmarkPriceRepository;
 import com.fimatchplus.backend.common.exception.ResourceNotFoundException;
+import com.fimatchplus.backend.common.service.FanOutExecutor;
 import com.fimatchplus.backend.stock.domain.Stock;
-import com.fimatchplus.backend.stock.repository.StockRepository;
+import com.fimatchplus.backend.stock.service.StockMasterRegistry;
 import com.fimatchplus.backend.backtest.repository.BacktestRuleRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
@@ -35,10 +38,11 @@ public class BacktestQueryService {
 
     private final BacktestRepository backtestRepository;
     private final SnapshotRepository snapshotRepository;
-    private final StockRepository stockRepository;
+    private final StockMasterRegistry stockMasterRegistry;
     private final BenchmarkPriceRepository benchmarkPriceRepository;
     private final BacktestRuleRepository backtestRuleRepository;
     private final ObjectMapper objectMapper;
+    private final FanOutExecutor fanOutExecutor;
 
     /**
      * 백테스트 메타데이터 조회
@@ -66,38 +70,71 @@ public class BacktestQueryService {
         );
     }
 
+    /**
+     * 백테스트 상세 응답의 데이터 버전 조회
+     * 완료되어 결과가 고정된 백테스트만 반환 (진행 중이면 빈 Optional)
+     */
+    public Optional<BacktestDetailVersion> getBacktestDetailVersion(Long backtestId) {
+        return snapshotRepository.findDetailVersionByBacktestId(backtestId)
+                .filter(BacktestDetailVersion::isFinal);
+    }
+
     /**
      * 백테스트 결과 상세 정보 조회 (새로운 응답 구조)
+     * <ul>
+     *     <li>백테스트 / 최신 스냅샷 / 보유 스냅샷을 병렬 조회</li>
+     *     <li>백테스트 설정이 필요한 벤치마크(DB)와 규칙(MongoDB)은 그 다음 병렬 조회하며, 그동안 일별 평가액 계산</li>
+     * </ul>
      *
      * @param backtestId 백테스트 ID
      * @return 백테스트 상세 정보
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public BacktestDetailResponse getBacktestDetail(Long backtestId) {
         log.info("Getting backtest detail for backtestId: {}", backtestId);
 
-        Backtest backtest = findBacktestById(backtestId);
-        PortfolioSnapshot latestSnapshot = snapshotRepository.findLatestPortfolioSnapshotByBacktestId(backtestId);
-        
+        try (FanOutExecutor.Scope scope = fanOutExecutor.open("backtest-detail")) {
+            FanOutExecutor.Branch<Backtest> backtestBranch = scope.fork("backtest", () -> findBacktestById(backtestId));
+            FanOutExecutor.Branch<PortfolioSnapshot> snapshotBranch = scope.fork("snapshot", () -> snapshotRepository.findLatestPortfolioSnapshotByBacktestId(backtestId));
+            FanOutExecutor.Branch<List<HoldingSnapshot>> holdingsBranch = scope.fork("holdings", () -> snapshotRepository.findHoldingSnapshotsByBacktestId(backtestId));
+
+            Backtest backtest = backtestBranch.get();
+            String benchmarkCode = backtest.getBenchmarkCode();
+            FanOutExecutor.Branch<List<BacktestDetailResponse.BenchmarkData>> benchmarkBranch =
+                    scope.fork("benchmark", () -> getBenchmarkData(benchmarkCode, backtest.getStartAt(), backtest.getEndAt()));
+            FanOutExecutor.Branch<BacktestRuleDocument> rulesBranch = scope.fork("rules", () -> getBacktestRuleById(backtest.getRuleId()));
+
+            PortfolioSnapshot latestSnapshot = snapshotBranch.get();
+            List<HoldingSnapshot> allHoldingSnapshots = holdingsBranch.get();
+
+            return buildBacktestDetail(backtest, latestSnapshot, allHoldingSnapshots, benchmarkBranch, rulesBranch);
+        }
+    }
+
+    private BacktestDetailResponse buildBacktestDetail(
+            Backtest backtest,
+            PortfolioSnapshot latestSnapshot,
+            List<HoldingSnapshot> allHoldingSnapshots,
+            FanOutExecutor.Branch<List<BacktestDetailResponse.BenchmarkData>> benchmarkBranch,
+            FanOutExecutor.Branch<BacktestRuleDocument> rulesBranch) {
         String period = formatBacktestPeriod(backtest);
         Double executionTime = latestSnapshot.executionTime();
         BacktestMetrics metrics = getBacktestMetrics(latestSnapshot);
         
-        List<HoldingSnapshot> allHoldingSnapshots = snapshotRepository.findHoldingSnapshotsByBacktestId(backtestId);
-        
         Map<String, String> stockCodeToNameMap = getStockCodeToNameMap(allHoldingSnapshots);
         
         List<BacktestDetailResponse.DailyEquityData> dailyEquity = createDailyEquityDataOptimized(allHoldingSnapshots, stockCodeToNameMap);
         
         String benchmarkCode = backtest.getBenchmarkCode();
         String benchmarkName = getBenchmarkName(benchmarkCode);
-        List<BacktestDetailResponse.BenchmarkData> benchmarkData = getBenchmarkData(benchmarkCode, backtest.getStartAt(), backtest.getEndAt());
         
         List<HoldingSnapshot> latestHoldingSnapshots = allHoldingSnapshots.stream()
                 .filter(holding -> holding.portfolioSnapshotId().equals(latestSnapshot.id()))
                 .collect(Collectors.toList());
         List<BacktestDetailResponse.HoldingData> holdings = createHoldingDataOptimized(latestHoldingSnapshots, stockCodeToNameMap);
 
-        BacktestRuleDocument rules = getBacktestRuleById(backtest.getRuleId());
+        List<BacktestDetailResponse.BenchmarkData> benchmarkData = benchmarkBranch.get();
+        BacktestRuleDocument rules = rulesBranch.get();
 
         return BacktestDetailResponse.of(
                 latestSnapshot.id().toString(),
@@ -211,7 +248,7 @@ public class BacktestQueryService {
                 .map(HoldingSnapshot::stockCode)
                 .collect(Collectors.toSet());
         
-        List<Stock> stocks = stockRepository.findByTickerIn(new ArrayList<>(stockCodes));
+        List<Stock> stocks = stockMasterRegistry.findAll(stockCodes);
         
         return stocks.stream()
                 .collect(Collectors.toMap(
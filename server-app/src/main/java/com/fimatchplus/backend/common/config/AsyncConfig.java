@@ -1,12 +1,14 @@
 package com.fimatchplus.backend.common.config;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Slf4j
 @Configuration
@@ -51,4 +53,56 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * KIS 멀티 시세 청크 병렬 조회용 스레드 풀
+     * 풀 크기가 노드 전체의 KIS 동시 호출 상한 역할을 하며, 포화 시 호출 스레드에서 직접 실행
+     */
+    @Bean(name = "kisPriceExecutor")
+    public Executor kisPriceExecutor(@Value("${kis.price.multi.parallelism:4}") int parallelism) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(parallelism);
+        executor.setMaxPoolSize(parallelism);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("KisPrice-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 상세 조회의 독립 조회 병렬 실행(fan-out)용 스레드 풀
+     * 풀 크기가 fan-out으로 동시에 점유하는 DB 커넥션 상한 역할을 하며, 포화 시 호출 스레드에서 직접 실행
+     */
+    @Bean(name = "fanOutExecutor")
+    public Executor fanOutExecutor(@Value("${app.fan-out.pool-size:8}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("FanOut-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 실시간 시세 SSE 전송용 스레드 풀
+     * 구독자마다 전송 작업을 최대 1개만 등록하므로 큐 크기가 동시 전송 대기 구독자 수 상한 역할을 하며, 포화 시 해당 구독자 연결 종료
+     */
+    @Bean(name = "streamSendExecutor")
+    public Executor streamSendExecutor(
+            @Value("${stock.stream.send-pool-size:4}") int poolSize,
+            @Value("${stock.stream.send-queue-capacity:10000}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("StreamSend-");
+
+        executor.initialize();
+        return executor;
+    }
 }
@@ -0,0 +1,12 @@
+package com.fimatchplus.backend.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 활성화 (스레드 풀 크기는 spring.task.scheduling.pool.size)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
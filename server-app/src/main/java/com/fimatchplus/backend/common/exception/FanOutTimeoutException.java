@@ -0,0 +1,8 @@
+package com.fimatchplus.backend.common.exception;
+
+public class FanOutTimeoutException extends RuntimeException {
+
+    public FanOutTimeoutException(String message) {
+        super(message);
+    }
+}
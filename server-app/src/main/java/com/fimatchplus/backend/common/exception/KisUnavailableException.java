@@ -0,0 +1,8 @@
+package com.fimatchplus.backend.common.exception;
+
+public class KisUnavailableException extends RuntimeException {
+
+    public KisUnavailableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fimatchplus.backend.common.exception;
+
+public class RateLimitExceededException extends RuntimeException {
+
+    public RateLimitExceededException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,104 @@
+package com.fimatchplus.backend.common.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Redis 기반 단기 분산 락
+ * <ul>
+ *     <li>SET NX PX 로 획득하고 소유자 토큰을 반환</li>
+ *     <li>해제/연장은 소유자 토큰이 일치할 때만 수행 (Lua 스크립트로 원자 처리)</li>
+ * </ul>
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DistributedLockService {
+
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class
+    );
+
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class
+    );
+
+    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
+
+    /**
+     * 락 획득 시도
+     *
+     * @return 획득 시 소유자 토큰, 다른 소유자가 보유 중이면 null
+     */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    /**
+     * 소유자 토큰이 일치하는 경우에만 락 해제
+     */
+    public void unlock(String key, String token) {
+        if (token == null) {
+            return;
+        }
+
+        try {
+            redisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+        } catch (Exception e) {
+            log.warn("Failed to release lock: {}, error: {}", key, e.getMessage());
+        }
+    }
+
+    /**
+     * 논블로킹 락 획득 시도
+     *
+     * @return 획득 시 소유자 토큰, 다른 소유자가 보유 중이면 빈 Mono
+     */
+    public Mono<String> tryLockReactive(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        return reactiveRedisTemplate.opsForValue().setIfAbsent(key, token, ttl)
+                .filter(Boolean.TRUE::equals)
+                .map(acquired -> token);
+    }
+
+    /**
+     * 논블로킹 락 해제 (토큰이 없으면 아무 것도 하지 않음)
+     */
+    public Mono<Void> unlockReactive(String key, String token) {
+        if (token == null || token.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return reactiveRedisTemplate.execute(UNLOCK_SCRIPT, List.of(key), List.of(token))
+                .then()
+                .onErrorResume(e -> {
+                    log.warn("Failed to release lock: {}, error: {}", key, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 소유자 토큰이 일치하는 경우에만 만료 시간 연장
+     *
+     * @return 연장 성공 여부
+     */
+    public boolean extend(String key, String token, Duration ttl) {
+        Long result = redisTemplate.execute(EXTEND_SCRIPT, List.of(key), token, String.valueOf(ttl.toMillis()));
+        return result != null && result > 0;
+    }
+}
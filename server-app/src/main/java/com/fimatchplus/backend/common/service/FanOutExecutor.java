@@ -0,0 +1,183 @@
+package com.fimatchplus.backend.common.service;
+
+import com.fimatchplus.backend.common.exception.FanOutTimeoutException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 서로 독립적인 조회를 병렬로 실행하는 fan-out 도우미
+ * <ul>
+ *     <li>분기는 fanOutExecutor(크기 제한 풀)에서 실행, 풀이 포화되면 호출 스레드에서 직접 실행</li>
+ *     <li>분기별 타임아웃 - 초과 시 {@link FanOutTimeoutException}</li>
+ *     <li>join은 분기를 완료 순서대로 확인 - 한 분기가 실패하거나 시간이 초과되면 fork 순서와 무관하게 즉시 나머지 분기를 취소(인터럽트)하고 원래 예외를 그대로 전달</li>
+ *     <li>scope를 닫을 때 끝나지 않은 분기는 모두 취소</li>
+ * </ul>
+ *
+ * <pre>
+ * try (FanOutExecutor.Scope scope = fanOutExecutor.open("stock-detail")) {
+ *     FanOutExecutor.Branch&lt;A&gt; a = scope.fork("a", () -&gt; loadA());
+ *     FanOutExecutor.Branch&lt;B&gt; b = scope.fork("b", () -&gt; loadB(), Duration.ofSeconds(3));
+ *     scope.join();
+ *     return combine(a.get(), b.get());
+ * }
+ * </pre>
+ */
+@Slf4j
+@Component
+public class FanOutExecutor {
+
+    private final Executor executor;
+    private final Duration defaultTimeout;
+
+    public FanOutExecutor(
+            @Qualifier("fanOutExecutor") Executor executor,
+            @Value("${app.fan-out.default-timeout-ms:5000}") long defaultTimeoutMillis) {
+        this.executor = executor;
+        this.defaultTimeout = Duration.ofMillis(defaultTimeoutMillis);
+    }
+
+    public Scope open(String name) {
+        return new Scope(name);
+    }
+
+    public final class Scope implements AutoCloseable {
+
+        private final String name;
+        private final List<Branch<?>> branches = new ArrayList<>();
+        private final BlockingQueue<Branch<?>> completed = new LinkedBlockingQueue<>();
+
+        private Scope(String name) {
+            this.name = name;
+        }
+
+        public <T> Branch<T> fork(String branchName, Callable<T> task) {
+            return fork(branchName, task, defaultTimeout);
+        }
+
+        public <T> Branch<T> fork(String branchName, Callable<T> task, Duration timeout) {
+            Branch<T> branch = new Branch<>(name + "/" + branchName, task, System.nanoTime() + timeout.toNanos(), timeout, this);
+            branches.add(branch);
+            executor.execute(branch.future);
+            return branch;
+        }
+
+        /**
+         * 모든 분기 완료 대기 (완료 순서대로 확인하여 가장 먼저 실패하거나 시간이 초과된 분기의 예외를 전달)
+         */
+        public void join() {
+            Set<Branch<?>> joined = new HashSet<>();
+            while (joined.size() < branches.size()) {
+                Branch<?> next = awaitNext();
+                if (joined.add(next)) {
+                    next.get();
+                }
+            }
+        }
+
+        /**
+         * 다음으로 완료된 분기, 가장 빠른 타임아웃까지 완료된 분기가 없으면 그 분기 (get 시 타임아웃 처리)
+         */
+        private Branch<?> awaitNext() {
+            Branch<?> earliest = null;
+            for (Branch<?> branch : branches) {
+                if (!branch.future.isDone() && (earliest == null || branch.deadlineNanos < earliest.deadlineNanos)) {
+                    earliest = branch;
+                }
+            }
+
+            try {
+                long waitNanos = earliest != null ? Math.max(earliest.deadlineNanos - System.nanoTime(), 0L) : 0L;
+                Branch<?> next = completed.poll(waitNanos, TimeUnit.NANOSECONDS);
+                if (next != null) {
+                    return next;
+                }
+                return earliest != null ? earliest : completed.take();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                cancelAll();
+                throw new IllegalStateException("Interrupted while waiting for fan-out: " + name, e);
+            }
+        }
+
+        @Override
+        public void close() {
+            cancelAll();
+        }
+
+        private void cancelAll() {
+            for (Branch<?> branch : branches) {
+                if (!branch.future.isDone()) {
+                    branch.future.cancel(true);
+                    log.debug("Cancelled fan-out branch: {}", branch.name);
+                }
+            }
+        }
+    }
+
+    public static final class Branch<T> {
+
+        private final String name;
+        private final FutureTask<T> future;
+        private final long deadlineNanos;
+        private final Duration timeout;
+        private final Scope scope;
+
+        private Branch(String name, Callable<T> task, long deadlineNanos, Duration timeout, Scope scope) {
+            this.name = name;
+            this.future = new FutureTask<>(task) {
+                @Override
+                protected void done() {
+                    scope.completed.add(Branch.this);
+                }
+            };
+            this.deadlineNanos = deadlineNanos;
+            this.timeout = timeout;
+            this.scope = scope;
+        }
+
+        /**
+         * 분기 결과 (완료 전이면 남은 타임아웃만큼 대기)
+         */
+        public T get() {
+            try {
+                return future.get(Math.max(deadlineNanos - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                scope.cancelAll();
+                throw new FanOutTimeoutException("조회 시간이 초과되었습니다: " + name + " (" + timeout.toMillis() + "ms)");
+            } catch (ExecutionException e) {
+                scope.cancelAll();
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException runtime) {
+                    throw runtime;
+                }
+                if (cause instanceof Error error) {
+                    throw error;
+                }
+                throw new IllegalStateException("Fan-out branch failed: " + name, cause);
+            } catch (CancellationException e) {
+                throw new IllegalStateException("Fan-out branch cancelled: " + name, e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                scope.cancelAll();
+                throw new IllegalStateException("Interrupted while waiting for fan-out branch: " + name, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package com.fimatchplus.backend.common.service;
+
+import com.fimatchplus.backend.common.util.DateTimeUtil;
+import com.fimatchplus.backend.common.util.KrxTradingCalendar;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * KRX 장 운영 시간 기반 캐시 TTL 정책 (시세 캐시 및 시세 파생 캐시 공용)
+ * <ul>
+ *     <li>가격 변동 구간(정규장 + 종가 확정 유예)에는 호출부가 지정한 짧은 TTL 사용</li>
+ *     <li>그 외(장 마감 후, 주말, 휴장일)에는 다음 정규장 시작까지 캐시 (최대 TTL 상한 적용)</li>
+ *     <li>다음 정규장 시작이 장중 TTL보다 가까우면 그 시각에 맞춰 만료</li>
+ *     <li>기동 시 올해/내년 KRX 휴장일 목록이 있는지 확인 (없으면 휴장일에도 장중 TTL을 사용하게 되므로 ERROR 로그)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class MarketSessionTtlPolicy {
+
+    private final Duration closeSettle;
+    private final Duration offSessionMaxTtl;
+
+    public MarketSessionTtlPolicy(
+            @Value("${market.session.close-settle-ms:600000}") long closeSettleMillis,
+            @Value("${market.session.off-session-max-ttl-ms:604800000}") long offSessionMaxTtlMillis) {
+        this.closeSettle = Duration.ofMillis(closeSettleMillis);
+        this.offSessionMaxTtl = Duration.ofMillis(offSessionMaxTtlMillis);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyHolidayCoverage() {
+        int year = DateTimeUtil.now().getYear();
+        List<Integer> missing = KrxTradingCalendar.missingHolidayYears(year, year + 1);
+        if (!missing.isEmpty()) {
+            log.error("KRX 휴장일 목록에 {}년이 없습니다 - 해당 연도는 주말만 휴장으로 처리됩니다. market/krx-holidays.txt를 갱신하세요", missing);
+        }
+    }
+
+    /**
+     * 현재 시각 기준 캐시 TTL
+     *
+     * @param sessionTtl 가격 변동 구간에서 사용할 TTL
+     */
+    public Duration ttl(Duration sessionTtl) {
+        return ttl(DateTimeUtil.now(), sessionTtl);
+    }
+
+    public Duration ttl(LocalDateTime now, Duration sessionTtl) {
+        if (isPriceMoving(now)) {
+            return sessionTtl;
+        }
+
+        Duration untilOpen = Duration.between(now, KrxTradingCalendar.nextOpen(now));
+        if (untilOpen.compareTo(sessionTtl) < 0) {
+            return untilOpen;
+        }
+        return untilOpen.compareTo(offSessionMaxTtl) > 0 ? offSessionMaxTtl : untilOpen;
+    }
+
+    /**
+     * 가격이 바뀔 수 있는 구간인지 여부 (정규장 ~ 종가 확정 유예 시간)
+     */
+    public boolean isPriceMoving() {
+        return isPriceMoving(DateTimeUtil.now());
+    }
+
+    public boolean isPriceMoving(LocalDateTime now) {
+        LocalDate date = now.toLocalDate();
+        if (!KrxTradingCalendar.isTradingDay(date)) {
+            return false;
+        }
+        LocalDateTime open = date.atTime(KrxTradingCalendar.REGULAR_OPEN);
+        LocalDateTime settled = date.atTime(KrxTradingCalendar.REGULAR_CLOSE).plus(closeSettle);
+        return !now.isBefore(open) && now.isBefore(settled);
+    }
+}
@@ -20,34 +20,17 @@ public final class DateTimeUtil {
         return LocalDateTime.now(KOREA_ZONE);
     }
 
+    /**
+     * KRX 정규장 시간 여부 (주말/휴장일 제외)
+     */
     public static boolean isMarketOpen() {
-        LocalDateTime now = now();
-        int hour = now.getHour();
-        int minute = now.getMinute();
-
-        if (hour < 9 || hour > 15) {
-            return false;
-        }
-        if (hour == 9 && minute < 0) {
-            return false;
-        }
-        if (hour == 15 && minute > 30) {
-            return false;
-        }
-
-        return true;
+        return KrxTradingCalendar.isRegularSession(now());
     }
 
+    /**
+     * 다음 정규장 종료 시각 (장중이면 당일 15:30, 장 마감 후/휴장일이면 다음 거래일 15:30)
+     */
     public static String getNextCloseTime() {
-        LocalDateTime now = now();
-        LocalDateTime nextClose = now.withHour(15).withMinute(30).withSecond(0).withNano(0);
-
-        if (now.isAfter(nextClose)) {
-            nextClose = nextClose.plusDays(1);
-        }
-
-        return formatDateTime(nextClose);
+        return formatDateTime(KrxTradingCalendar.nextClose(now()));
     }
 }
-
-
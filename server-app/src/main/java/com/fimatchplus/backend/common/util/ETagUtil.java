@@ -0,0 +1,28 @@
+package com.fimatchplus.backend.common.util;
+
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * 데이터 버전 값으로 ETag 생성
+ * 응답 본문을 만들지 않고 버전 구성 요소(요청 파라미터, 마지막 봉 시각, 상태 등)만으로 계산
+ */
+public final class ETagUtil {
+
+    private ETagUtil() {
+    }
+
+    /**
+     * @return 따옴표로 감싼 strong ETag (예: "5d41402abc4b2a76b9719d911017c592")
+     */
+    public static String of(Object... parts) {
+        StringJoiner joiner = new StringJoiner("|");
+        for (Object part : parts) {
+            joiner.add(Objects.toString(part, ""));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(joiner.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+}
@@ -0,0 +1,160 @@
+package com.fimatchplus.backend.common.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * KRX 정규장 거래일/세션 캘린더 (KST 기준)
+ * <ul>
+ *     <li>거래일: 주말과 휴장일(classpath:market/krx-holidays.txt)을 제외한 날</li>
+ *     <li>정규장: 09:00 ~ 15:30</li>
+ *     <li>휴장일 목록은 최초 사용 시 한 번만 읽음</li>
+ *     <li>휴장일 목록에 없는 연도는 주말만 휴장으로 처리하고 krx.calendar.fallback 카운터로 기록 (연도별 최초 1회 경고 로그)</li>
+ * </ul>
+ */
+@Slf4j
+public final class KrxTradingCalendar {
+
+    public static final LocalTime REGULAR_OPEN = LocalTime.of(9, 0);
+    public static final LocalTime REGULAR_CLOSE = LocalTime.of(15, 30);
+
+    private static final String HOLIDAY_RESOURCE = "market/krx-holidays.txt";
+    private static final int MAX_SEARCH_DAYS = 60;
+    // 연도별 fallback 카운터 (최초 조회 시 한 번만 등록하고 경고 로그)
+    private static final Map<Integer, Counter> FALLBACK_COUNTERS = new ConcurrentHashMap<>();
+
+    private KrxTradingCalendar() {
+    }
+
+    public static boolean isTradingDay(LocalDate date) {
+        DayOfWeek dayOfWeek = date.getDayOfWeek();
+        if (dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) {
+            return false;
+        }
+        if (!Holidays.YEARS.contains(date.getYear())) {
+            recordFallback(date.getYear());
+            return true;
+        }
+        return !Holidays.DATES.contains(date);
+    }
+
+    /**
+     * 휴장일 목록이 없는 연도 (from ~ to, 양 끝 포함)
+     */
+    public static List<Integer> missingHolidayYears(int fromYear, int toYear) {
+        return IntStream.rangeClosed(fromYear, toYear)
+                .filter(year -> !Holidays.YEARS.contains(year))
+                .boxed()
+                .toList();
+    }
+
+    /**
+     * 정규장 시간 여부 (시가 09:00 포함, 종가 15:30 미포함)
+     */
+    public static boolean isRegularSession(LocalDateTime dateTime) {
+        if (!isTradingDay(dateTime.toLocalDate())) {
+            return false;
+        }
+        LocalTime time = dateTime.toLocalTime();
+        return !time.isBefore(REGULAR_OPEN) && time.isBefore(REGULAR_CLOSE);
+    }
+
+    /**
+     * 주어진 시각 이후(같은 시각 포함) 가장 가까운 정규장 시작 시각
+     */
+    public static LocalDateTime nextOpen(LocalDateTime dateTime) {
+        LocalDate date = dateTime.toLocalDate();
+        if (isTradingDay(date) && !dateTime.toLocalTime().isAfter(REGULAR_OPEN)) {
+            return date.atTime(REGULAR_OPEN);
+        }
+        return nextTradingDay(date).atTime(REGULAR_OPEN);
+    }
+
+    /**
+     * 주어진 시각 이후(같은 시각 포함) 가장 가까운 정규장 종료 시각
+     */
+    public static LocalDateTime nextClose(LocalDateTime dateTime) {
+        LocalDate date = dateTime.toLocalDate();
+        if (isTradingDay(date) && !dateTime.toLocalTime().isAfter(REGULAR_CLOSE)) {
+            return date.atTime(REGULAR_CLOSE);
+        }
+        return nextTradingDay(date).atTime(REGULAR_CLOSE);
+    }
+
+    public static LocalDate nextTradingDay(LocalDate date) {
+        LocalDate candidate = date.plusDays(1);
+        for (int i = 0; i < MAX_SEARCH_DAYS && !isTradingDay(candidate); i++) {
+            candidate = candidate.plusDays(1);
+        }
+        return candidate;
+    }
+
+    private static void recordFallback(int year) {
+        Counter counter = FALLBACK_COUNTERS.get(year);
+        if (counter == null) {
+            counter = FALLBACK_COUNTERS.computeIfAbsent(year, key -> {
+                log.warn("KRX 휴장일 목록에 {}년이 없습니다 - 주말만 휴장으로 처리합니다 ({} 갱신 필요)", key, HOLIDAY_RESOURCE);
+                return Metrics.counter("krx.calendar.fallback", "year", String.valueOf(key));
+            });
+        }
+        counter.increment();
+    }
+
+    /**
+     * 휴장일 목록 지연 로딩 홀더
+     */
+    private static final class Holidays {
+
+        private static final Set<LocalDate> DATES = load();
+        // 휴장일이 하나라도 등록된 연도만 목록이 있는 것으로 판단
+        private static final Set<Integer> YEARS = DATES.stream().map(LocalDate::getYear).collect(Collectors.toUnmodifiableSet());
+
+        private static Set<LocalDate> load() {
+            Set<LocalDate> dates = new HashSet<>();
+            InputStream in = KrxTradingCalendar.class.getClassLoader().getResourceAsStream(HOLIDAY_RESOURCE);
+            if (in == null) {
+                log.warn("KRX 휴장일 파일을 찾을 수 없습니다: {} (주말만 휴장으로 처리)", HOLIDAY_RESOURCE);
+                return Set.of();
+            }
+
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    String value = line.strip();
+                    if (value.isEmpty() || value.startsWith("#")) {
+                        continue;
+                    }
+                    try {
+                        dates.add(LocalDate.parse(value));
+                    } catch (DateTimeParseException e) {
+                        log.warn("KRX 휴장일 형식 오류 - line: {}", value);
+                    }
+                }
+            } catch (IOException e) {
+                log.warn("KRX 휴장일 로딩 실패: {}", e.getMessage());
+            }
+
+            log.info("Loaded {} KRX holidays", dates.size());
+            return Set.copyOf(dates);
+        }
+    }
+}
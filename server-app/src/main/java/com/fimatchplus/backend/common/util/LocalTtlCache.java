@@ -0,0 +1,90 @@
+package com.fimatchplus.backend.common.util;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 엔트리별 TTL을 갖는 크기 제한 로컬 캐시
+ * <ul>
+ *     <li>조회 시 만료된 엔트리는 즉시 제거</li>
+ *     <li>최대 크기 초과 시 만료 엔트리를 먼저 정리하고, 그래도 넘치면 가장 먼저 만료될 엔트리부터 제거</li>
+ * </ul>
+ */
+public class LocalTtlCache<K, V> {
+
+    private final ConcurrentHashMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final Object evictionLock = new Object();
+    private final int maxSize;
+
+    public LocalTtlCache(int maxSize) {
+        if (maxSize <= 0) {
+            throw new IllegalArgumentException("maxSize must be positive: " + maxSize);
+        }
+        this.maxSize = maxSize;
+    }
+
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(System.nanoTime())) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    public void put(K key, V value, Duration ttl) {
+        if (value == null || ttl == null || ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+
+        entries.put(key, new Entry<>(value, System.nanoTime() + ttl.toNanos()));
+
+        if (entries.size() > maxSize) {
+            evict();
+        }
+    }
+
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private void evict() {
+        synchronized (evictionLock) {
+            long now = System.nanoTime();
+            entries.entrySet().removeIf(e -> e.getValue().isExpired(now));
+
+            while (entries.size() > maxSize) {
+                K eldestKey = null;
+                long eldestExpiry = 0L;
+                for (Map.Entry<K, Entry<V>> e : entries.entrySet()) {
+                    if (eldestKey == null || e.getValue().expiresAtNanos() - eldestExpiry < 0) {
+                        eldestExpiry = e.getValue().expiresAtNanos();
+                        eldestKey = e.getKey();
+                    }
+                }
+                if (eldestKey == null) {
+                    break;
+                }
+                entries.remove(eldestKey);
+            }
+        }
+    }
+
+    private record Entry<V>(V value, long expiresAtNanos) {
+        boolean isExpired(long now) {
+            return now - expiresAtNanos >= 0;
+        }
+    }
+}
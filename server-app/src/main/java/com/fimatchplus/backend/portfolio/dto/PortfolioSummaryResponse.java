@@ -5,7 +5,8 @@ import com.fimatchplus.backend.common.dto.ApiResponse;
 public record PortfolioSummaryResponse(
         double totalAssets,
         double dailyTotalReturn,
-        double dailyTotalChange
+        double dailyTotalChange,
+        boolean stale
 ) {
 
     public static ApiResponse<PortfolioSummaryResponse> success(String message, PortfolioSummaryResponse data) {
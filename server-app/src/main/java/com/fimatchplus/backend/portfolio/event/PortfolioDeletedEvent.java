@@ -0,0 +1,21 @@
+package com.fimatchplus.backend.portfolio.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+/**
+ * 포트폴리오 삭제 이벤트
+ * 포트폴리오가 soft delete 처리된 후 발행
+ */
+@Getter
+public class PortfolioDeletedEvent extends ApplicationEvent {
+
+    private final Long portfolioId;
+    private final Long userId;
+
+    public PortfolioDeletedEvent(Long portfolioId, Long userId) {
+        super(portfolioId);
+        this.portfolioId = portfolioId;
+        this.userId = userId;
+    }
+}
@@ -19,5 +19,6 @@ public interface PortfolioRepository {
     Holding saveHolding(Holding holding);
     List<Holding> findHoldingsByPortfolioId(Long portfolioId);
     List<Holding> findHoldingsByUserId(Long userId);
+    List<String> findDistinctActiveHoldingSymbols();
     void deleteHoldingsByPortfolioId(Long portfolioId);
 }
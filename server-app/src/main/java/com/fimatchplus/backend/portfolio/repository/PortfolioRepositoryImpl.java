@@ -211,6 +211,17 @@ public class PortfolioRepositoryImpl implements PortfolioRepository {
         return jdbcTemplate.query(sql, HOLDING_ROW_MAPPER, userId);
     }
 
+    @Override
+    public List<String> findDistinctActiveHoldingSymbols() {
+        String sql = """
+            SELECT DISTINCT h.symbol
+            FROM holdings h
+            INNER JOIN portfolios p ON h.portfolio_id = p.id
+            WHERE p.deleted_at IS NULL
+            """;
+        return jdbcTemplate.queryForList(sql, String.class);
+    }
+
     @Override
     public void deleteHoldingsByPortfolioId(Long portfolioId) {
         String sql = "DELETE FROM holdings WHERE portfolio_id = ?";
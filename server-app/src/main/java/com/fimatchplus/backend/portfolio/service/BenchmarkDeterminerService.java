@@ -3,7 +3,7 @@ package com.fimatchplus.backend.portfolio.service;
 import com.fimatchplus.backend.portfolio.domain.BenchmarkIndex;
 import com.fimatchplus.backend.portfolio.domain.Holding;
 import com.fimatchplus.backend.stock.domain.Stock;
-import com.fimatchplus.backend.stock.repository.StockRepository;
+import com.fimatchplus.backend.stock.service.StockMasterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,7 +21,7 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class BenchmarkDeterminerService {
 
-    private final StockRepository stockRepository;
+    private final StockMasterRegistry stockMasterRegistry;
 
     /**
      * 포트폴리오 Holdings를 분석하여 벤치마크 결정
@@ -63,7 +63,7 @@ public class BenchmarkDeterminerService {
     private MarketAnalysis analyzePortfolioMarkets(List<String> stockCodes) {
         log.debug("Analyzing portfolio markets for {} stock codes", stockCodes.size());
         
-        List<Stock> stocks = stockRepository.findByTickerIn(stockCodes);
+        List<Stock> stocks = stockMasterRegistry.findAll(stockCodes);
         
         Map<String, Stock> stockMap = stocks.stream()
                 .collect(Collectors.toMap(Stock::getTicker, stock -> stock));
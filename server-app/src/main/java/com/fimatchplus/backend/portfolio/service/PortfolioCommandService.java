@@ -8,6 +8,7 @@ import com.fimatchplus.backend.portfolio.domain.Rules;
 import com.fimatchplus.backend.portfolio.dto.CreatePortfolioRequest;
 import com.fimatchplus.backend.portfolio.dto.CreatePortfolioResult;
 import com.fimatchplus.backend.portfolio.event.PortfolioCreatedEvent;
+import com.fimatchplus.backend.portfolio.event.PortfolioDeletedEvent;
 import com.fimatchplus.backend.portfolio.repository.PortfolioRepository;
 import com.fimatchplus.backend.portfolio.repository.RulesRepository;
 import lombok.RequiredArgsConstructor;
@@ -220,6 +221,8 @@ public class PortfolioCommandService {
         portfolioRepository.softDelete(portfolioId);
 
         log.info("Portfolio soft deleted successfully - portfolioId: {}", portfolioId);
+
+        applicationEventPublisher.publishEvent(new PortfolioDeletedEvent(portfolioId, userId));
     }
 
     private Rules createRulesFromRequest(CreatePortfolioRequest.RulesRequest rulesRequest, String benchmarkCode) {
@@ -2,6 +2,7 @@ package com.fimatchplus.backend.portfolio.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fimatchplus.backend.common.exception.ResourceNotFoundException;
+import com.fimatchplus.backend.common.service.FanOutExecutor;
 import com.fimatchplus.backend.portfolio.domain.BenchmarkIndex;
 import com.fimatchplus.backend.portfolio.domain.Holding;
 import com.fimatchplus.backend.portfolio.domain.Portfolio;
@@ -17,6 +18,8 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -28,32 +31,55 @@ import java.util.stream.Collectors;
 @Transactional(readOnly = true)
 public class PortfolioQueryService {
 
+    private static final Duration PRICE_FETCH_TIMEOUT = Duration.ofSeconds(10);
+
     private final PortfolioRepository portfolioRepository;
     private final RulesRepository rulesRepository;
     private final StockService stockService;
     private final PortfolioCalculator portfolioCalculator;
     private final ObjectMapper objectMapper;
+    private final FanOutExecutor fanOutExecutor;
+    private final PortfolioValuationEngine valuationEngine;
 
     /**
      * 사용자별 포트폴리오 합계 정보 조회
+     * <ul>
+     *     <li>KIS 장애 시 시세 조회 단계에서 서킷 브레이커/마지막 정상 시세로 즉시 대체되어 타임아웃까지 기다리지 않음</li>
+     *     <li>마지막 정상 시세도 없으면 저장된 보유 평가액으로 응답 (stale)</li>
+     *     <li>{@link PortfolioValuationEngine}에 유효한 평가가 있으면 DB/시세 조회 없이 합계만 반환</li>
+     * </ul>
      */
     @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PortfolioSummaryResponse getPortfolioSummary(Long userId) {
         log.info("Getting portfolio summary for userId: {}", userId);
 
+        Optional<PortfolioValuationEngine.Totals> liveTotals = valuationEngine.userTotals(userId);
+        if (liveTotals.isPresent()) {
+            PortfolioValuationEngine.Totals totals = liveTotals.get();
+            return new PortfolioSummaryResponse(
+                    totals.totalAssets(),
+                    totals.dailyReturnPercent(),
+                    totals.dailyChange(),
+                    totals.stale()
+            );
+        }
+
+        long loadedVersion = valuationEngine.version();
         List<Holding> allHoldings = getAllUserHoldingsWithTransaction(userId);
         if (allHoldings.isEmpty()) {
-            return new PortfolioSummaryResponse(0.0, 0.0, 0.0);
+            return new PortfolioSummaryResponse(0.0, 0.0, 0.0, false);
         }
 
         try {
             Map<String, StockService.StockPriceInfo> priceMap = getPriceMapForHoldings(allHoldings);
             PortfolioCalculator.PortfolioTotals totals = calculatePortfolioSummaryTotals(allHoldings, priceMap);
+            valuationEngine.register(userId, groupHoldingsByPortfolio(allHoldings), priceMap, loadedVersion);
 
             return new PortfolioSummaryResponse(
                     totals.totalAssets(),
                     totals.dailyReturnPercent(),
-                    totals.dailyChange()
+                    totals.dailyChange(),
+                    isStale(allHoldings, priceMap)
             );
         } catch (Exception e) {
             log.error("KIS API 호출 실패, DB 가격 데이터 사용: {}", e.getMessage());
@@ -64,22 +90,22 @@ public class PortfolioQueryService {
     /**
      * 포트폴리오 상세 정보 조회
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public PortfolioLongResponse getPortfolioLong(Long portfolioId) {
         log.info("Getting portfolio long info for portfolioId: {}", portfolioId);
 
-        PortfolioData data = getPortfolioData(portfolioId);
+        PortfolioData data;
+        PortfolioLongResponse.RulesDetail rulesDetail;
+        try (FanOutExecutor.Scope scope = fanOutExecutor.open("portfolio-long")) {
+            FanOutExecutor.Branch<Portfolio> portfolioBranch = scope.fork("portfolio", () -> portfolioRepository.findById(portfolioId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Portfolio", "id", portfolioId)));
+            FanOutExecutor.Branch<List<Holding>> holdingsBranch = scope.fork("holdings", () -> portfolioRepository.findHoldingsByPortfolioId(portfolioId));
 
-        PortfolioLongResponse.RulesDetail rulesDetail = null;
-        if (data.portfolio().ruleId() != null && !data.portfolio().ruleId().trim().isEmpty()) {
-            try {
-                Optional<Rules> rulesOptional = rulesRepository.findById(data.portfolio().ruleId());
-                if (rulesOptional.isPresent()) {
-                    Rules rules = rulesOptional.get();
-                    rulesDetail = convertRulesToDetail(rules);
-                }
-            } catch (Exception e) {
-                log.warn("Failed to load rules for ruleId: {}, error: {}", data.portfolio().ruleId(), e.getMessage());
-            }
+            Portfolio portfolio = portfolioBranch.get();
+            FanOutExecutor.Branch<PortfolioLongResponse.RulesDetail> rulesBranch = scope.fork("rules", () -> loadRulesDetail(portfolio.ruleId()));
+
+            data = getPortfolioData(portfolio, holdingsBranch.get(), scope);
+            rulesDetail = rulesBranch.get();
         }
 
         List<PortfolioLongResponse.HoldingDetail> holdingDetails = List.of();
@@ -119,6 +145,11 @@ public class PortfolioQueryService {
 
     /**
      * 사용자 포트폴리오 리스트 조회
+     * <ul>
+     *     <li>포트폴리오 목록 1회 + 사용자 전체 보유 종목 1회 조회 후 포트폴리오별로 메모리에서 그룹핑 (포트폴리오 수와 무관)</li>
+     *     <li>종목 정보와 현재가는 전체 티커 기준으로 한 번만 조회해 모든 항목이 같은 맵을 공유</li>
+     *     <li>{@link PortfolioValuationEngine}에 모든 포트폴리오의 유효한 평가가 있으면 보유 종목/시세 조회 없이 평가로 응답</li>
+     * </ul>
      */
     public PortfolioListResponse getPortfolioList(Long userId) {
         log.info("Getting portfolio list for userId: {}", userId);
@@ -129,8 +160,16 @@ public class PortfolioQueryService {
             return new PortfolioListResponse(List.of());
         }
 
+        Optional<Map<Long, PortfolioValuationEngine.PortfolioValuation>> liveValuations =
+                valuationEngine.portfolioValuations(portfolios.stream().map(Portfolio::id).toList());
+        if (liveValuations.isPresent()) {
+            return toPortfolioListResponse(portfolios, liveValuations.get());
+        }
+
+        long loadedVersion = valuationEngine.version();
+        Map<Long, List<Holding>> holdingsByPortfolio = groupHoldingsByPortfolio(portfolioRepository.findHoldingsByUserId(userId));
         List<Holding> allHoldings = portfolios.stream()
-                .flatMap(portfolio -> portfolioRepository.findHoldingsByPortfolioId(portfolio.id()).stream())
+                .flatMap(portfolio -> holdingsByPortfolio.getOrDefault(portfolio.id(), List.of()).stream())
                 .toList();
 
         if (allHoldings.isEmpty()) {
@@ -154,13 +193,45 @@ public class PortfolioQueryService {
 
         Map<String, StockService.StockPriceInfo> priceMap = stockService.getMultiCurrentPrices(allTickers);
 
+        Map<Long, List<Holding>> userHoldings = new LinkedHashMap<>();
+        for (Portfolio portfolio : portfolios) {
+            userHoldings.put(portfolio.id(), holdingsByPortfolio.getOrDefault(portfolio.id(), List.of()));
+        }
+
+        return toPortfolioListResponse(portfolios, valuationEngine.register(userId, userHoldings, priceMap, loadedVersion));
+    }
+
+    /**
+     * 포트폴리오별 평가로 리스트 응답 구성 (종목 정보는 전체 티커 기준으로 한 번만 조회)
+     */
+    private PortfolioListResponse toPortfolioListResponse(
+            List<Portfolio> portfolios,
+            Map<Long, PortfolioValuationEngine.PortfolioValuation> valuations) {
+        List<String> allTickers = valuations.values().stream()
+                .flatMap(valuation -> valuation.positions().stream())
+                .map(PortfolioValuationEngine.Position::ticker)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<String, Stock> stockMap = stockService.getStocksByTickers(allTickers)
+                .stream()
+                .collect(Collectors.toMap(Stock::getTicker, stock -> stock, (first, second) -> first));
+
         List<PortfolioListResponse.PortfolioListItem> portfolioItems = portfolios.stream()
-                .map(portfolio -> createPortfolioListItemWithPriceMap(portfolio, priceMap))
+                .map(portfolio -> createPortfolioListItem(portfolio, valuations.get(portfolio.id()), stockMap))
                 .collect(Collectors.toList());
 
         return new PortfolioListResponse(portfolioItems);
     }
 
+    /**
+     * 보유 종목을 포트폴리오별로 그룹핑 (조회 순서인 비중 내림차순 유지)
+     */
+    private static Map<Long, List<Holding>> groupHoldingsByPortfolio(List<Holding> holdings) {
+        return holdings.stream()
+                .collect(Collectors.groupingBy(Holding::portfolioId, LinkedHashMap::new, Collectors.toList()));
+    }
+
     /**
      * 포트폴리오 분석 결과만 조회 (AnalysisDetail)
      */
@@ -250,7 +321,20 @@ public class PortfolioQueryService {
                 .mapToDouble(Holding::totalValue)
                 .sum();
 
-        return new PortfolioSummaryResponse(totalAssets, 0.0, 0.0);
+        return new PortfolioSummaryResponse(totalAssets, 0.0, 0.0, true);
+    }
+
+    /**
+     * 마지막 정상 시세를 쓴 종목이 있거나 시세가 없는 종목이 있으면 stale
+     */
+    private boolean isStale(List<Holding> holdings, Map<String, StockService.StockPriceInfo> priceMap) {
+        for (Holding holding : holdings) {
+            StockService.StockPriceInfo priceInfo = priceMap.get(holding.symbol());
+            if (priceInfo == null || priceInfo.stale()) {
+                return true;
+            }
+        }
+        return false;
     }
 
     private Map<String, StockService.StockPriceInfo> getPriceMapForHoldings(List<Holding> holdings) {
@@ -273,12 +357,11 @@ public class PortfolioQueryService {
             Map<String, StockService.StockPriceInfo> priceMap
     ) {}
 
-    private PortfolioData getPortfolioData(Long portfolioId) {
-        Portfolio portfolio = portfolioRepository.findById(portfolioId)
-                .orElseThrow(() -> new ResourceNotFoundException("Portfolio", "id", portfolioId));
-
-        List<Holding> holdings = portfolioRepository.findHoldingsByPortfolioId(portfolioId);
-
+    /**
+     * 보유 종목의 종목 정보(메모리)와 KIS 현재가 조회
+     * 현재가는 scope의 분기로 실행되어 같은 scope의 다른 조회(규칙 등)와 병렬로 진행
+     */
+    private PortfolioData getPortfolioData(Portfolio portfolio, List<Holding> holdings, FanOutExecutor.Scope scope) {
         if (holdings.isEmpty()) {
             return new PortfolioData(portfolio, holdings, Map.of(), Map.of());
         }
@@ -288,13 +371,28 @@ public class PortfolioQueryService {
                 .distinct()
                 .collect(Collectors.toList());
 
+        FanOutExecutor.Branch<Map<String, StockService.StockPriceInfo>> priceBranch =
+                scope.fork("prices", () -> stockService.getMultiCurrentPrices(tickers), PRICE_FETCH_TIMEOUT);
+
         Map<String, Stock> stockMap = stockService.getStocksByTickers(tickers)
                 .stream()
                 .collect(Collectors.toMap(Stock::getTicker, stock -> stock));
 
-        Map<String, StockService.StockPriceInfo> priceMap = stockService.getMultiCurrentPrices(tickers);
+        return new PortfolioData(portfolio, holdings, stockMap, priceBranch.get());
+    }
 
-        return new PortfolioData(portfolio, holdings, stockMap, priceMap);
+    private PortfolioLongResponse.RulesDetail loadRulesDetail(String ruleId) {
+        if (ruleId == null || ruleId.trim().isEmpty()) {
+            return null;
+        }
+
+        try {
+            Optional<Rules> rulesOptional = rulesRepository.findById(ruleId);
+            return rulesOptional.map(this::convertRulesToDetail).orElse(null);
+        } catch (Exception e) {
+            log.warn("Failed to load rules for ruleId: {}, error: {}", ruleId, e.getMessage());
+            return null;
+        }
     }
 
     private PortfolioLongResponse.HoldingDetail createHoldingDetailWithMaps(
@@ -354,12 +452,11 @@ public class PortfolioQueryService {
         }
     }
 
-    private PortfolioListResponse.PortfolioListItem createPortfolioListItemWithPriceMap(
+    private PortfolioListResponse.PortfolioListItem createPortfolioListItem(
             Portfolio portfolio,
-            Map<String, StockService.StockPriceInfo> priceMap) {
-        List<Holding> holdings = portfolioRepository.findHoldingsByPortfolioId(portfolio.id());
-
-        if (holdings.isEmpty()) {
+            PortfolioValuationEngine.PortfolioValuation valuation,
+            Map<String, Stock> stockMap) {
+        if (valuation == null || valuation.positions().isEmpty()) {
             return new PortfolioListResponse.PortfolioListItem(
                     portfolio.id(),
                     portfolio.name(),
@@ -371,105 +468,58 @@ public class PortfolioQueryService {
             );
         }
 
-        PortfolioCalculator.PortfolioTotals totals = portfolioCalculator.calculateTotals(holdings, priceMap);
-        double totalAssets = totals.totalAssets();
-        double dailyRate = totals.dailyReturnPercent();
-        double dailyChange = totals.dailyChange();
-
-        List<PortfolioListResponse.HoldingStock> holdingStocks = getHoldingStocksWithPriceMap(portfolio.id(), priceMap);
+        List<PortfolioListResponse.HoldingStock> holdingStocks = valuation.positions().stream()
+                .map(position -> toHoldingStock(position, stockMap))
+                .collect(Collectors.toList());
 
         return new PortfolioListResponse.PortfolioListItem(
                 portfolio.id(),
                 portfolio.name(),
                 portfolio.description(),
                 holdingStocks,
-                totalAssets,
-                dailyRate,
-                dailyChange
+                valuation.totalAssets(),
+                valuation.dailyReturnPercent(),
+                valuation.dailyChange()
         );
     }
 
-    private List<PortfolioListResponse.HoldingStock> getHoldingStocksWithPriceMap(Long portfolioId, Map<String, StockService.StockPriceInfo> priceMap) {
-        try {
-            List<Holding> holdings = portfolioRepository.findHoldingsByPortfolioId(portfolioId);
-
-            if (holdings.isEmpty()) {
-                return List.of();
-            }
-
-            List<String> tickers = holdings.stream()
-                    .map(Holding::symbol)
-                    .distinct()
-                    .collect(Collectors.toList());
-
-            Map<String, Stock> stockMap = stockService.getStocksByTickers(tickers)
-                    .stream()
-                    .collect(Collectors.toMap(Stock::getTicker, stock -> stock));
+    private PortfolioListResponse.HoldingStock toHoldingStock(PortfolioValuationEngine.Position position, Map<String, Stock> stockMap) {
+        Stock stock = stockMap.get(position.ticker());
+        if (stock == null) {
+            log.warn("Stock not found for ticker: {}", position.ticker());
+            return new PortfolioListResponse.HoldingStock(
+                    "Unknown",
+                    "Unknown Stock",
+                    position.shares(),
+                    position.weight(),
+                    position.storedValue(),
+                    0.0,
+                    0.0
+            );
+        }
 
-            return holdings.stream()
-                    .map(holding -> {
-                        try {
-                            Stock stock = stockMap.get(holding.symbol());
-                            if (stock == null) {
-                                log.warn("Stock not found for ticker: {}", holding.symbol());
-                                return new PortfolioListResponse.HoldingStock(
-                                        "Unknown",
-                                        "Unknown Stock",
-                                        holding.shares(),
-                                        holding.weight(),
-                                        holding.totalValue(),
-                                        0.0,
-                                        0.0
-                                );
-                            }
-
-                            StockService.StockPriceInfo priceInfo = priceMap.get(holding.symbol());
-
-                            if (priceInfo == null) {
-                                log.warn("가격 정보를 찾을 수 없습니다: {}", holding.symbol());
-                                return new PortfolioListResponse.HoldingStock(
-                                        stock.getTicker(),
-                                        stock.getName(),
-                                        holding.shares(),
-                                        holding.weight(),
-                                        holding.totalValue(),
-                                        0.0,
-                                        0.0
-                                );
-                            }
-
-                            double currentPrice = priceInfo.currentPrice();
-                            double dailyRate = priceInfo.dailyChangeRate();
-
-                            double value = holding.shares() * currentPrice;
-
-                            return new PortfolioListResponse.HoldingStock(
-                                    stock.getTicker(),
-                                    stock.getName(),
-                                    holding.shares(),
-                                    holding.weight(),
-                                    value,
-                                    dailyRate,
-                                    currentPrice
-                            );
-                        } catch (Exception e) {
-                            log.warn("Failed to get stock information for holding: {}, error: {}", holding.symbol(), e.getMessage());
-                            return new PortfolioListResponse.HoldingStock(
-                                    "Unknown",
-                                    "Unknown Stock",
-                                    holding.shares(),
-                                    holding.weight(),
-                                    holding.totalValue(),
-                                    0.0,
-                                    0.0
-                            );
-                        }
-                    })
-                    .collect(Collectors.toList());
-        } catch (Exception e) {
-            log.warn("Failed to get holding stocks for portfolio: {}, error: {}", portfolioId, e.getMessage());
-            return List.of();
+        if (!position.priced()) {
+            log.warn("가격 정보를 찾을 수 없습니다: {}", position.ticker());
+            return new PortfolioListResponse.HoldingStock(
+                    stock.getTicker(),
+                    stock.getName(),
+                    position.shares(),
+                    position.weight(),
+                    position.storedValue(),
+                    0.0,
+                    0.0
+            );
         }
+
+        return new PortfolioListResponse.HoldingStock(
+                stock.getTicker(),
+                stock.getName(),
+                position.shares(),
+                position.weight(),
+                position.value(),
+                position.dailyChangeRate(),
+                position.currentPrice()
+        );
     }
 
     private PortfolioLongResponse.RulesDetail convertRulesToDetail(Rules rules) {
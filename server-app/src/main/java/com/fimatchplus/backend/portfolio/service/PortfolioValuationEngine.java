@@ -0,0 +1,413 @@
+package com.fimatchplus.backend.portfolio.service;
+
+import com.fimatchplus.backend.common.service.MarketSessionTtlPolicy;
+import com.fimatchplus.backend.portfolio.domain.Holding;
+import com.fimatchplus.backend.portfolio.domain.Portfolio;
+import com.fimatchplus.backend.portfolio.event.PortfolioCreatedEvent;
+import com.fimatchplus.backend.portfolio.event.PortfolioDeletedEvent;
+import com.fimatchplus.backend.portfolio.repository.PortfolioRepository;
+import com.fimatchplus.backend.stock.event.StockQuotesUpdatedEvent;
+import com.fimatchplus.backend.stock.service.KisQuote;
+import com.fimatchplus.backend.stock.service.StockService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 포트폴리오 실시간 평가 엔진 (노드 로컬)
+ * <ul>
+ *     <li>조회된 포트폴리오의 보유 종목별 평가 상태와 총 평가액/일간 변동을 메모리에 유지</li>
+ *     <li>종목 -> 포트폴리오 역인덱스로 시세 갱신 시 영향받는 포트폴리오만 차액(delta)으로 갱신 - 전체 재계산 없음</li>
+ *     <li>시세 유효 기간은 {@link MarketSessionTtlPolicy}를 따름 (장중 max-quote-age, 장 마감 후에는 다음 정규장 시작까지)</li>
+ *     <li>유효 기간이 지난 포트폴리오는 조회 시 미스로 처리되어 호출 측에서 DB/시세로 다시 적재</li>
+ *     <li>포트폴리오 생성/수정/삭제 커밋 후 해당 엔트리를 제거하고, 그 사이 진행 중이던 적재 결과는 버림 (버전 비교)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PortfolioValuationEngine {
+
+    private final PortfolioRepository portfolioRepository;
+    private final MarketSessionTtlPolicy ttlPolicy;
+    private final boolean enabled;
+    private final Duration maxQuoteAge;
+    private final int maxPortfolios;
+
+    private final ConcurrentHashMap<Long, Valuation> valuations = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Set<Long>> portfoliosByTicker = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Set<Long>> portfoliosByUser = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong();
+    private final Object registrationLock = new Object();
+
+    public PortfolioValuationEngine(
+            PortfolioRepository portfolioRepository,
+            MarketSessionTtlPolicy ttlPolicy,
+            @Value("${portfolio.valuation.enabled:true}") boolean enabled,
+            @Value("${portfolio.valuation.max-quote-age-ms:60000}") long maxQuoteAgeMillis,
+            @Value("${portfolio.valuation.max-portfolios:20000}") int maxPortfolios) {
+        this.portfolioRepository = portfolioRepository;
+        this.ttlPolicy = ttlPolicy;
+        this.enabled = enabled;
+        this.maxQuoteAge = Duration.ofMillis(maxQuoteAgeMillis);
+        this.maxPortfolios = maxPortfolios;
+    }
+
+    /**
+     * 보유 종목 평가 상태
+     *
+     * @param storedValue 시세가 없을 때 대신 사용하는 저장된 평가액
+     * @param priced      시세 반영 여부
+     * @param stale       마지막 정상 시세 사용 또는 시세 없음
+     */
+    public record Position(
+            String ticker,
+            int shares,
+            double weight,
+            double storedValue,
+            boolean priced,
+            double currentPrice,
+            double dailyChangeRate,
+            double dailyChangePrice,
+            boolean stale
+    ) {
+
+        public double value() {
+            return priced ? shares * currentPrice : storedValue;
+        }
+
+        public double dailyChange() {
+            return priced ? shares * dailyChangePrice : 0.0;
+        }
+
+        static Position of(Holding holding, StockService.StockPriceInfo priceInfo) {
+            if (priceInfo == null) {
+                return new Position(holding.symbol(), holding.shares(), holding.weight(), holding.totalValue(),
+                        false, 0.0, 0.0, 0.0, true);
+            }
+            return new Position(holding.symbol(), holding.shares(), holding.weight(), holding.totalValue(),
+                    true, priceInfo.currentPrice(), priceInfo.dailyChangeRate(), priceInfo.dailyChangePrice(), priceInfo.stale());
+        }
+
+        Position withQuote(KisQuote quote) {
+            return new Position(ticker, shares, weight, storedValue,
+                    true, quote.currentPrice(), quote.changeRate(), quote.change(), quote.stale());
+        }
+    }
+
+    /**
+     * 포트폴리오 평가 스냅샷 (보유 종목은 비중 내림차순)
+     */
+    public record PortfolioValuation(
+            Long portfolioId,
+            double totalAssets,
+            double dailyChange,
+            double dailyReturnPercent,
+            boolean stale,
+            List<Position> positions
+    ) {}
+
+    /**
+     * 사용자 전체 포트폴리오 합계
+     */
+    public record Totals(
+            double totalAssets,
+            double dailyChange,
+            double dailyReturnPercent,
+            boolean stale
+    ) {}
+
+    /**
+     * 적재 시작 시점의 버전 - {@link #register}에 넘겨 그 사이 변경이 있었으면 결과를 저장하지 않음
+     */
+    public long version() {
+        return version.get();
+    }
+
+    /**
+     * 사용자 전체 포트폴리오 합계 조회
+     *
+     * @return 사용자 포트폴리오가 모두 적재되어 있고 유효 기간 내일 때만 값 반환
+     */
+    public Optional<Totals> userTotals(Long userId) {
+        Set<Long> portfolioIds = enabled ? portfoliosByUser.get(userId) : null;
+        if (portfolioIds == null) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        double totalAssets = 0.0;
+        double dailyChange = 0.0;
+        boolean stale = false;
+        for (Long portfolioId : portfolioIds) {
+            Valuation valuation = valuations.get(portfolioId);
+            PortfolioValuation snapshot = valuation != null ? valuation.snapshotIfValid(now) : null;
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            totalAssets += snapshot.totalAssets();
+            dailyChange += snapshot.dailyChange();
+            stale |= snapshot.stale();
+        }
+        return Optional.of(new Totals(totalAssets, dailyChange, returnPercent(totalAssets, dailyChange), stale));
+    }
+
+    /**
+     * 여러 포트폴리오 평가 조회
+     *
+     * @return 모두 적재되어 있고 유효 기간 내일 때만 값 반환 (포트폴리오 ID -> 평가)
+     */
+    public Optional<Map<Long, PortfolioValuation>> portfolioValuations(Collection<Long> portfolioIds) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        long now = System.currentTimeMillis();
+        Map<Long, PortfolioValuation> snapshots = new HashMap<>();
+        for (Long portfolioId : portfolioIds) {
+            Valuation valuation = valuations.get(portfolioId);
+            PortfolioValuation snapshot = valuation != null ? valuation.snapshotIfValid(now) : null;
+            if (snapshot == null) {
+                return Optional.empty();
+            }
+            snapshots.put(portfolioId, snapshot);
+        }
+        return Optional.of(snapshots);
+    }
+
+    /**
+     * DB/시세로 적재한 포트폴리오 평가 등록
+     *
+     * @param holdingsByPortfolio 사용자의 포트폴리오별 보유 종목 (보유 종목이 있는 포트폴리오는 모두 포함해야 함)
+     * @param loadedVersion       적재 시작 전 {@link #version()} 값
+     * @return 계산된 평가 (저장 여부와 무관)
+     */
+    public Map<Long, PortfolioValuation> register(
+            Long userId,
+            Map<Long, List<Holding>> holdingsByPortfolio,
+            Map<String, StockService.StockPriceInfo> priceMap,
+            long loadedVersion) {
+        long now = System.currentTimeMillis();
+        long validUntil = validUntil(now);
+
+        Map<Long, Valuation> created = new HashMap<>();
+        Map<Long, PortfolioValuation> snapshots = new HashMap<>();
+        holdingsByPortfolio.forEach((portfolioId, holdings) -> {
+            Position[] positions = new Position[holdings.size()];
+            for (int i = 0; i < positions.length; i++) {
+                Holding holding = holdings.get(i);
+                positions[i] = Position.of(holding, priceMap.get(holding.symbol()));
+            }
+            Valuation valuation = new Valuation(portfolioId, userId, positions, validUntil);
+            created.put(portfolioId, valuation);
+            snapshots.put(portfolioId, valuation.snapshot());
+        });
+
+        if (!enabled) {
+            return snapshots;
+        }
+
+        synchronized (registrationLock) {
+            if (version.get() != loadedVersion) {
+                log.debug("Portfolio changed while loading, skip valuation cache - userId: {}", userId);
+                return snapshots;
+            }
+            if (valuations.size() + created.size() > maxPortfolios) {
+                log.debug("Valuation cache full ({}), skip registration - userId: {}", valuations.size(), userId);
+                return snapshots;
+            }
+
+            created.forEach((portfolioId, valuation) -> {
+                removeFromIndex(portfolioId, valuations.put(portfolioId, valuation));
+                for (Position position : valuation.positions) {
+                    portfoliosByTicker.computeIfAbsent(position.ticker(), key -> ConcurrentHashMap.newKeySet()).add(portfolioId);
+                }
+            });
+            portfoliosByUser.put(userId, Set.copyOf(created.keySet()));
+        }
+        return snapshots;
+    }
+
+    /**
+     * 새 시세를 해당 종목을 보유한 포트폴리오에만 차액으로 반영
+     */
+    @EventListener
+    public void onQuotesUpdated(StockQuotesUpdatedEvent event) {
+        if (!enabled || valuations.isEmpty()) {
+            return;
+        }
+
+        long validUntil = validUntil(System.currentTimeMillis());
+        int updated = 0;
+        for (KisQuote quote : event.quotes().values()) {
+            Set<Long> portfolioIds = portfoliosByTicker.get(quote.ticker());
+            if (portfolioIds == null || quote.stale()) {
+                continue;
+            }
+            for (Long portfolioId : portfolioIds) {
+                Valuation valuation = valuations.get(portfolioId);
+                if (valuation != null) {
+                    valuation.apply(quote, validUntil);
+                    updated++;
+                }
+            }
+        }
+
+        if (updated > 0) {
+            log.debug("Applied quote deltas - quotes: {}, portfolio updates: {}", event.quotes().size(), updated);
+        }
+    }
+
+    /**
+     * 포트폴리오 생성/수정 커밋 후 평가 제거 (사용자 합계도 다시 적재되도록 제거)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPortfolioChanged(PortfolioCreatedEvent event) {
+        Long portfolioId = event.getPortfolioId();
+        Valuation removed = evict(portfolioId);
+        Optional<Long> userId = removed != null
+                ? Optional.of(removed.userId)
+                : portfolioRepository.findById(portfolioId).map(Portfolio::userId);
+        userId.ifPresent(portfoliosByUser::remove);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onPortfolioDeleted(PortfolioDeletedEvent event) {
+        evict(event.getPortfolioId());
+        portfoliosByUser.remove(event.getUserId());
+    }
+
+    /**
+     * 유효 기간이 지난 평가 정리 (메모리 사용량을 조회 중인 포트폴리오 수로 제한)
+     */
+    @Scheduled(fixedDelayString = "${portfolio.valuation.sweep-interval-ms:60000}")
+    public void evictExpired() {
+        if (valuations.isEmpty()) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        int removed = 0;
+        synchronized (registrationLock) {
+            for (Map.Entry<Long, Valuation> entry : valuations.entrySet()) {
+                if (entry.getValue().isExpired(now) && valuations.remove(entry.getKey(), entry.getValue())) {
+                    removeFromIndex(entry.getKey(), entry.getValue());
+                    removed++;
+                }
+            }
+            if (removed > 0) {
+                portfoliosByUser.values().removeIf(portfolioIds -> !valuations.keySet().containsAll(portfolioIds));
+            }
+        }
+
+        if (removed > 0) {
+            log.debug("Evicted expired portfolio valuations: {}, remaining: {}", removed, valuations.size());
+        }
+    }
+
+    private Valuation evict(Long portfolioId) {
+        synchronized (registrationLock) {
+            version.incrementAndGet();
+            Valuation removed = valuations.remove(portfolioId);
+            removeFromIndex(portfolioId, removed);
+            return removed;
+        }
+    }
+
+    private void removeFromIndex(Long portfolioId, Valuation valuation) {
+        if (valuation == null) {
+            return;
+        }
+        for (Position position : valuation.positions) {
+            portfoliosByTicker.computeIfPresent(position.ticker(), (ticker, portfolioIds) -> {
+                portfolioIds.remove(portfolioId);
+                return portfolioIds.isEmpty() ? null : portfolioIds;
+            });
+        }
+    }
+
+    private long validUntil(long now) {
+        return now + ttlPolicy.ttl(maxQuoteAge).toMillis();
+    }
+
+    private static double returnPercent(double totalAssets, double dailyChange) {
+        return totalAssets > 0 ? (dailyChange / totalAssets) * 100 : 0.0;
+    }
+
+    /**
+     * 포트폴리오 1개의 평가 상태 (시세 반영/조회는 인스턴스 단위로 동기화)
+     */
+    private static final class Valuation {
+
+        private final Long portfolioId;
+        private final Long userId;
+        private final Position[] positions;
+        private final long[] positionValidUntil;
+        private double totalAssets;
+        private double dailyChange;
+        private int stalePositions;
+        private long validUntil;
+
+        Valuation(Long portfolioId, Long userId, Position[] positions, long validUntil) {
+            this.portfolioId = portfolioId;
+            this.userId = userId;
+            this.positions = positions;
+            this.positionValidUntil = new long[positions.length];
+            this.validUntil = validUntil;
+            for (int i = 0; i < positions.length; i++) {
+                positionValidUntil[i] = validUntil;
+                totalAssets += positions[i].value();
+                dailyChange += positions[i].dailyChange();
+                if (positions[i].stale()) {
+                    stalePositions++;
+                }
+            }
+        }
+
+        synchronized void apply(KisQuote quote, long quoteValidUntil) {
+            long minValidUntil = Long.MAX_VALUE;
+            for (int i = 0; i < positions.length; i++) {
+                Position previous = positions[i];
+                if (previous.ticker().equals(quote.ticker())) {
+                    Position current = previous.withQuote(quote);
+                    totalAssets += current.value() - previous.value();
+                    dailyChange += current.dailyChange() - previous.dailyChange();
+                    stalePositions += (current.stale() ? 1 : 0) - (previous.stale() ? 1 : 0);
+                    positions[i] = current;
+                    positionValidUntil[i] = quoteValidUntil;
+                }
+                minValidUntil = Math.min(minValidUntil, positionValidUntil[i]);
+            }
+            validUntil = minValidUntil;
+        }
+
+        synchronized boolean isExpired(long now) {
+            return now > validUntil;
+        }
+
+        /**
+         * @return 유효 기간이 지났으면 null
+         */
+        synchronized PortfolioValuation snapshotIfValid(long now) {
+            return now > validUntil ? null : snapshot();
+        }
+
+        synchronized PortfolioValuation snapshot() {
+            return new PortfolioValuation(portfolioId, totalAssets, dailyChange, returnPercent(totalAssets, dailyChange),
+                    stalePositions > 0, List.of(positions));
+        }
+    }
+}
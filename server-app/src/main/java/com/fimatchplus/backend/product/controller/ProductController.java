@@ -10,6 +10,9 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -39,12 +42,18 @@ public class ProductController {
      * <ul>
      *     <li>특정 상품의 상세 정보를 조회합니다</li>
      *     <li>상품의 성과 지표, 메타 정보, 보유 종목 구성 등 모든 정보를 반환합니다</li>
+     *     <li>ETag로 조건부 조회를 지원합니다 (변경 없으면 304)</li>
      * </ul>
      */
     @GetMapping("/{productId}")
-    public ApiResponse<ProductDetailResponse> getProductById(@PathVariable Long productId) {
+    public ApiResponse<ProductDetailResponse> getProductById(@PathVariable Long productId, WebRequest webRequest) {
         log.info("GET /api/products/{} - 상품 상세 조회", productId);
 
+        Optional<String> eTag = productService.getProductETag(productId);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
+
         ProductDetailResponse response = productService.getProductById(productId);
         return ApiResponse.success("상품 상세 정보를 조회했습니다", response);
     }
@@ -2,7 +2,12 @@ package com.fimatchplus.backend.product.repository;
 
 import com.fimatchplus.backend.product.domain.ProductHolding;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+
+import java.util.List;
 
 public interface ProductHoldingRepository extends JpaRepository<ProductHolding, Integer> {
-}
 
+    @Query("SELECT DISTINCT ph.symbol FROM ProductHolding ph")
+    List<String> findDistinctSymbols();
+}
@@ -2,7 +2,21 @@ package com.fimatchplus.backend.product.repository;
 
 import com.fimatchplus.backend.product.domain.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
 
 public interface ProductRepository extends JpaRepository<Product, Long> {
-}
 
+    /**
+     * 상품 + 구성 종목 행 전체의 해시 (엔티티 로딩 없이 변경 여부 판단용)
+     */
+    @Query(value = """
+        SELECT md5(p::text || COALESCE(
+            (SELECT string_agg(ph::text, ',' ORDER BY ph.id) FROM product_holdings ph WHERE ph.product_id = p.id), ''))
+        FROM products p
+        WHERE p.id = :productId
+        """, nativeQuery = true)
+    Optional<String> findContentHashById(@Param("productId") Long productId);
+}
@@ -1,6 +1,7 @@
 package com.fimatchplus.backend.product.service;
 
 import com.fimatchplus.backend.common.exception.ResourceNotFoundException;
+import com.fimatchplus.backend.common.util.ETagUtil;
 import com.fimatchplus.backend.product.domain.Product;
 import com.fimatchplus.backend.product.dto.ProductDetailResponse;
 import com.fimatchplus.backend.product.dto.ProductListResponse;
@@ -12,6 +13,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -31,6 +33,14 @@ public class ProductService {
         return ProductListResponse.of(products);
     }
 
+    /**
+     * 상품 상세 응답의 ETag (상품이 없으면 빈 Optional)
+     */
+    public Optional<String> getProductETag(Long productId) {
+        return productRepository.findContentHashById(productId)
+                .map(hash -> ETagUtil.of("product", productId, hash));
+    }
+
     public ProductDetailResponse getProductById(Long productId) {
         Product product = productRepository.findById(productId)
                 .orElseThrow(() -> new ResourceNotFoundException("Product", "id", productId));
@@ -4,15 +4,22 @@ import com.fimatchplus.backend.common.dto.ApiResponse;
 import com.fimatchplus.backend.stock.dto.StockDetailResponse;
 import com.fimatchplus.backend.stock.dto.StockPriceResponse;
 import com.fimatchplus.backend.stock.dto.StockSearchResponse;
+import com.fimatchplus.backend.stock.service.StockPriceStreamHub;
 import com.fimatchplus.backend.stock.service.StockService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -21,6 +28,7 @@ import java.util.List;
 public class StockController {
 
     private final StockService stockService;
+    private final StockPriceStreamHub priceStreamHub;
 
     /**
      * 여러 종목의 현재가 정보 조회
@@ -42,14 +50,21 @@ public class StockController {
      * <ul>
      *     <li>종목 코드와 차트 간격(interval)을 받아 해당 종목의 상세 정보를 반환</li>
      *     <li>차트 간격(interval) 기본값은 '1d'</li>
+     *     <li>ETag로 조건부 조회 지원 (마지막 봉이 바뀌지 않았으면 304)</li>
      * </ul>
      * */
     @GetMapping("/detail")
     public ApiResponse<StockDetailResponse> getStockDetail(
             @RequestParam("codes") String codes,
-            @RequestParam(value = "intervals", defaultValue = "1d") String intervals) {
+            @RequestParam(value = "intervals", defaultValue = "1d") String intervals,
+            WebRequest webRequest) {
         log.info("GET /api/stocks/detail - codes: {}, intervals: {}", codes, intervals);
 
+        Optional<String> eTag = stockService.getStockDetailETag(codes, intervals);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
+
         StockDetailResponse response = stockService.getStockDetail(codes, intervals);
         return ApiResponse.success("단일 종목의 정보를 조회합니다", response);
     }
@@ -58,8 +73,11 @@ public class StockController {
      * 특정 종목의 차트 데이터 조회
      * <ul>
      *     <li>종목 ID와 시간 간격을 받아 해당 종목의 차트 데이터를 반환</li>
-     *     <li>시간 간격: '1m'(1분), '1d'(1일), '1W'(1주), '1Y'(1년)</li>
+     *     <li>시간 간격: '1m'(1분), '3m', '5m', '10m', '15m', '30m', '1h', '1d'(1일), '1W'(1주), '1M'(1개월), '1Y'(1년)</li>
+     *     <li>분/시간 봉은 1분봉, 일 이상 봉은 일봉을 서버에서 집계하여 생성</li>
      *     <li>시작일과 종료일을 지정하여 특정 기간의 데이터 조회 가능</li>
+     *     <li>maxPoints 지정 시 기간과 무관하게 최대 maxPoints개로 축소 (구간별 고가/저가 유지)</li>
+     *     <li>ETag로 조건부 조회 지원 (마지막 봉이 바뀌지 않았으면 304)</li>
      * </ul>
      * */
     @GetMapping("/chart")
@@ -70,7 +88,9 @@ public class StockController {
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
             @RequestParam(value = "endDate", required = false)
             @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
-            @RequestParam(value = "limit", defaultValue = "100") int limit) {
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            @RequestParam(value = "maxPoints", defaultValue = "0") int maxPoints,
+            WebRequest webRequest) {
 
         LocalDateTime endDateTime;
         LocalDateTime startDateTime;
@@ -90,9 +110,15 @@ public class StockController {
             startDateTime = startDate.atStartOfDay();
         }
 
-        log.info("GET /api/stocks/chart - stockId: {}, interval: {}, startDateTime: {}, endDateTime: {}, limit: {}", stockId, interval, startDateTime, endDateTime, limit);
+        log.info("GET /api/stocks/chart - stockId: {}, interval: {}, startDateTime: {}, endDateTime: {}, limit: {}, maxPoints: {}", stockId, interval, startDateTime, endDateTime, limit, maxPoints);
 
-        List<StockDetailResponse.ChartData> chartData = stockService.getChartData(stockId, interval, startDateTime, endDateTime, limit);
+        // 종료일 미지정(현재 시각 기준)은 요청마다 시각이 달라지므로 마지막 봉 버전만으로 구분
+        Optional<String> eTag = stockService.getChartDataETag(stockId, interval, startDateTime, endDate != null ? endDateTime : null, limit, maxPoints);
+        if (eTag.isPresent() && webRequest.checkNotModified(eTag.get())) {
+            return null;
+        }
+
+        List<StockDetailResponse.ChartData> chartData = stockService.getChartData(stockId, interval, startDateTime, endDateTime, limit, maxPoints);
         return ApiResponse.success("차트데이터를 조회합니다", chartData);
     }
 
@@ -100,6 +126,7 @@ public class StockController {
      * 종목 이름 또는 코드로 검색
      * <ul>
      *     <li>종목명, 영문명, 티커로 검색 가능</li>
+     *     <li>초성만 입력해도 종목명 초성으로 검색 가능 (예: ㅅㅅㅈㅈ -> 삼성전자)</li>
      *     <li>검색 결과는 정확도 순으로 정렬 (정확한 티커 매치 > 종목명 매치 > 영문명 매치 > 티커 부분 매치 > 종목명 부분 매치 > 영문명 부분 매치)</li>
      *     <li>limit 파라미터로 검색 결과 수 제한 가능 (기본값: 20)</li>
      * </ul>
@@ -144,4 +171,65 @@ public class StockController {
         StockPriceResponse response = stockService.getRealtimeStockPrices(codes);
         return ApiResponse.success("여러 종목의 실시간 현재가를 조회합니다", response);
     }
+
+    /**
+     * 단일 종목 현재가 논블로킹 조회
+     * <ul>
+     *     <li>{@code /now}와 동일한 응답, KIS 응답 대기 중 요청 스레드를 점유하지 않음</li>
+     * </ul>
+     */
+    @GetMapping("/reactive/now")
+    public Mono<ApiResponse<StockPriceResponse>> getCurrentPriceNowReactive(
+            @RequestParam("code") String code
+    ) {
+        log.info("GET /api/stocks/reactive/now - code: {}", code);
+        return stockService.getCurrentPriceForSingleReactive(code)
+                .map(response -> ApiResponse.success("단일 종목의 현재가를 조회합니다", response));
+    }
+
+    /**
+     * 여러 종목의 실시간 현재가 논블로킹 조회
+     * <ul>
+     *     <li>{@code /multi}와 동일한 응답, KIS 응답 대기 중 요청 스레드를 점유하지 않음</li>
+     * </ul>
+     */
+    @GetMapping("/reactive/multi")
+    public Mono<ApiResponse<StockPriceResponse>> getRealtimeStockPricesReactive(
+            @RequestParam("codes") List<String> codes
+    ) {
+        log.info("GET /api/stocks/reactive/multi - codes: {}", codes);
+        return stockService.getRealtimeStockPricesReactive(codes)
+                .map(response -> ApiResponse.success("여러 종목의 실시간 현재가를 조회합니다", response));
+    }
+
+    /**
+     * 대량 종목 실시간 현재가 스트리밍 조회 (NDJSON)
+     * <ul>
+     *     <li>관심종목 등 종목 수가 많은 목록용, 종목별 시세를 확보되는 즉시 한 줄씩 전송</li>
+     *     <li>캐시 적중 종목을 먼저 보내고, 나머지는 KIS 청크 조회가 끝나는 대로 전송 (응답 순서는 요청 순서와 다를 수 있음)</li>
+     *     <li>시세를 얻지 못한 종목은 마지막에 0 값으로 전송</li>
+     * </ul>
+     */
+    @GetMapping(value = "/multi/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<StockPriceResponse.StockPriceData> streamRealtimeStockPrices(
+            @RequestParam("codes") List<String> codes
+    ) {
+        log.info("GET /api/stocks/multi/stream - count: {}", codes.size());
+        return stockService.streamRealtimeStockPrices(codes);
+    }
+
+    /**
+     * 실시간 현재가 스트림 구독 (SSE)
+     * <ul>
+     *     <li>구독한 종목의 시세가 바뀌면 'price' 이벤트로 전송</li>
+     *     <li>종목별로 flush 주기당 최대 1회만 전송 (중간 갱신은 최신값으로 병합)</li>
+     * </ul>
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPrices(
+            @RequestParam("codes") List<String> codes
+    ) {
+        log.info("GET /api/stocks/stream - codes: {}", codes);
+        return priceStreamHub.subscribe(codes);
+    }
 }
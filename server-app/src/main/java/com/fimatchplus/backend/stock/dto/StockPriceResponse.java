@@ -33,6 +33,9 @@ public record StockPriceResponse(
         }
     }
 
+    /**
+     * @param stale KIS 장애/지연으로 마지막 정상 시세를 대신 응답했는지 여부 (백그라운드에서 갱신 중)
+     */
     public record StockPriceData(
             String ticker,
             String name,
@@ -40,7 +43,8 @@ public record StockPriceResponse(
             double dailyRate,
             double dailyChange,
             double marketCap,
-            PriceChangeSign sign
+            PriceChangeSign sign,
+            boolean stale
     ) {}
 }
 
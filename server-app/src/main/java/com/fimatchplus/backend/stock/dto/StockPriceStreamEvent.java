@@ -0,0 +1,27 @@
+package com.fimatchplus.backend.stock.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fimatchplus.backend.stock.domain.PriceChangeSign;
+
+import java.time.Instant;
+
+/**
+ * 실시간 시세 스트림(SSE) 이벤트
+ */
+public record StockPriceStreamEvent(
+        String ticker,
+        double currentPrice,
+        double dailyRate,
+        double dailyChange,
+        PriceChangeSign sign,
+        @JsonFormat(shape = JsonFormat.Shape.STRING)
+        Instant timestamp
+) {
+
+    /**
+     * 현재가만 바뀐 경우 등락 정보는 직전 이벤트 기준으로 유지
+     */
+    public StockPriceStreamEvent withCurrentPrice(double price, Instant at) {
+        return new StockPriceStreamEvent(ticker, price, dailyRate, dailyChange, sign, at);
+    }
+}
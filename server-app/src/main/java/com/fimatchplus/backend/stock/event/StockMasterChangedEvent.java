@@ -0,0 +1,14 @@
+package com.fimatchplus.backend.stock.event;
+
+import java.util.Set;
+
+/**
+ * 종목 마스터 변경 이벤트
+ * 레지스트리 스냅샷이 교체된 후 발행 (최초 적재 시에는 전 종목이 added)
+ */
+public record StockMasterChangedEvent(
+    long version,
+    Set<String> added,
+    Set<String> updated,
+    Set<String> removed
+) {}
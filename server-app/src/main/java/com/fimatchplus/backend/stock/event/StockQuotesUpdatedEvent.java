@@ -0,0 +1,13 @@
+package com.fimatchplus.backend.stock.event;
+
+import com.fimatchplus.backend.stock.service.KisQuote;
+
+import java.util.Map;
+
+/**
+ * 시세 갱신 이벤트
+ * KIS에서 새로 받은 시세를 캐시에 저장할 때 발행 (stale 시세는 포함하지 않음)
+ */
+public record StockQuotesUpdatedEvent(
+    Map<String, KisQuote> quotes
+) {}
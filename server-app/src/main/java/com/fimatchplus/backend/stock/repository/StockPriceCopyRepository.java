@@ -0,0 +1,185 @@
+package com.fimatchplus.backend.stock.repository;
+
+import com.fimatchplus.backend.stock.util.PgBinaryCopyWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+
+/**
+ * stock_prices 대량 적재 Repository (COPY FROM STDIN BINARY)
+ * <ul>
+ *     <li>배치마다 트랜잭션 하나: 임시 staging 테이블 생성 -> COPY -> 병합 -> 커밋</li>
+ *     <li>병합은 (stock_code, datetime, interval_unit) 기준 upsert - 같은 키가 배치 안에 여러 번 있으면 마지막 행 사용</li>
+ *     <li>stock_prices에 해당 유니크 키가 없어 ON CONFLICT 대신 UPDATE ... FROM 후 NOT EXISTS INSERT로 병합
+ *     (같은 키를 쓰는 다른 적재와 동시에 실행하지 않는 것을 전제)</li>
+ *     <li>change_rate는 stock-app 스키마의 generated column이므로 쓰지 않음</li>
+ *     <li>가격은 float8로 COPY 후 병합 시 numeric(15,2)로 반올림</li>
+ * </ul>
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class StockPriceCopyRepository {
+
+    private static final int FIELD_COUNT = 10;
+
+    private static final String CREATE_STAGING_SQL = """
+            CREATE TEMP TABLE stock_prices_staging (
+                seq BIGINT,
+                stock_code TEXT,
+                datetime TIMESTAMP,
+                interval_unit TEXT,
+                open_price DOUBLE PRECISION,
+                high_price DOUBLE PRECISION,
+                low_price DOUBLE PRECISION,
+                close_price DOUBLE PRECISION,
+                volume BIGINT,
+                change_amount DOUBLE PRECISION
+            ) ON COMMIT DROP
+            """;
+
+    private static final String COPY_SQL = """
+            COPY stock_prices_staging (seq, stock_code, datetime, interval_unit, open_price, high_price, low_price,
+                                       close_price, volume, change_amount)
+            FROM STDIN (FORMAT binary)
+            """;
+
+    private static final String DEDUPE_SQL = """
+            CREATE TEMP TABLE stock_prices_dedup ON COMMIT DROP AS
+            SELECT DISTINCT ON (stock_code, datetime, interval_unit) *
+            FROM stock_prices_staging
+            ORDER BY stock_code, datetime, interval_unit, seq DESC
+            """;
+
+    private static final String UPDATE_SQL = """
+            UPDATE stock_prices sp
+            SET open_price = round(s.open_price::numeric, 2),
+                high_price = round(s.high_price::numeric, 2),
+                low_price = round(s.low_price::numeric, 2),
+                close_price = round(s.close_price::numeric, 2),
+                volume = s.volume,
+                change_amount = round(s.change_amount::numeric, 2)
+            FROM stock_prices_dedup s
+            WHERE sp.stock_code = s.stock_code
+              AND sp.datetime = s.datetime
+              AND sp.interval_unit = s.interval_unit
+            """;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO stock_prices (stock_code, datetime, interval_unit, open_price, high_price, low_price,
+                                      close_price, volume, change_amount)
+            SELECT s.stock_code, s.datetime, s.interval_unit,
+                   round(s.open_price::numeric, 2), round(s.high_price::numeric, 2),
+                   round(s.low_price::numeric, 2), round(s.close_price::numeric, 2),
+                   s.volume, round(s.change_amount::numeric, 2)
+            FROM stock_prices_dedup s
+            WHERE NOT EXISTS (
+                SELECT 1 FROM stock_prices sp
+                WHERE sp.stock_code = s.stock_code
+                  AND sp.datetime = s.datetime
+                  AND sp.interval_unit = s.interval_unit
+            )
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 적재 대상 행
+     */
+    public record Row(
+            String stockCode,
+            LocalDateTime datetime,
+            String intervalUnit,
+            double openPrice,
+            double highPrice,
+            double lowPrice,
+            double closePrice,
+            long volume,
+            double changeAmount
+    ) {}
+
+    /**
+     * 배치 적재 결과
+     *
+     * @param copied   COPY로 전송한 행 수
+     * @param inserted 새로 추가된 행 수
+     * @param updated  기존 행을 갱신한 수
+     */
+    public record BatchResult(long copied, long inserted, long updated) {}
+
+    /**
+     * rows에서 최대 maxRows개를 읽어 한 트랜잭션으로 적재
+     * 커넥션 하나에서 staging 생성부터 병합까지 수행하며, 실패 시 해당 배치만 롤백
+     *
+     * @return 적재 결과 (읽을 행이 없으면 copied = 0)
+     */
+    public BatchResult copyBatch(Iterator<Row> rows, int maxRows) {
+        return jdbcTemplate.execute((ConnectionCallback<BatchResult>) connection -> {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try {
+                BatchResult result = copyAndMerge(connection, rows, maxRows);
+                connection.commit();
+                return result;
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        });
+    }
+
+    private BatchResult copyAndMerge(Connection connection, Iterator<Row> rows, int maxRows) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING_SQL);
+        }
+
+        CopyIn copyIn = connection.unwrap(PGConnection.class).getCopyAPI().copyIn(COPY_SQL);
+        long copied;
+        try {
+            PgBinaryCopyWriter writer = new PgBinaryCopyWriter(copyIn);
+            while (writer.rows() < maxRows && rows.hasNext()) {
+                Row row = rows.next();
+                writer.startRow(FIELD_COUNT)
+                        .int8(writer.rows())
+                        .text(row.stockCode())
+                        .timestamp(row.datetime())
+                        .text(row.intervalUnit())
+                        .float8(row.openPrice())
+                        .float8(row.highPrice())
+                        .float8(row.lowPrice())
+                        .float8(row.closePrice())
+                        .int8(row.volume())
+                        .float8(row.changeAmount());
+            }
+            copied = writer.finish();
+        } finally {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        if (copied == 0) {
+            return new BatchResult(0, 0, 0);
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(DEDUPE_SQL);
+            statement.execute("ANALYZE stock_prices_dedup");
+            long updated = statement.executeUpdate(UPDATE_SQL);
+            long inserted = statement.executeUpdate(INSERT_SQL);
+            return new BatchResult(copied, inserted, updated);
+        }
+    }
+}
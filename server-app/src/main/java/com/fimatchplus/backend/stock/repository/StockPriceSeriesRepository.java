@@ -0,0 +1,160 @@
+package com.fimatchplus.backend.stock.repository;
+
+import com.fimatchplus.backend.stock.util.PriceSeries;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가격 시계열 조회/저장 Repository
+ * 엔티티 생성 없이 ResultSet에서 바로 primitive 배열로 적재 (JPA 엔티티/BigDecimal 변환 생략)
+ */
+@Repository
+@RequiredArgsConstructor
+public class StockPriceSeriesRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * from 이후(포함) 가격 시계열 조회
+     *
+     * @param stockCode 종목 코드
+     * @param intervalUnit 시간 간격 (1m, 1d 등)
+     * @param from 조회 시작 시각
+     * @return 시간 오름차순 시계열
+     */
+    public PriceSeries findSince(String stockCode, String intervalUnit, LocalDateTime from) {
+        String sql = """
+            SELECT datetime, open_price, high_price, low_price, close_price, volume
+            FROM stock_prices
+            WHERE stock_code = ?
+              AND interval_unit = ?
+              AND datetime >= ?
+            ORDER BY datetime ASC
+            """;
+
+        PriceSeries.Builder builder = new PriceSeries.Builder(256);
+        jdbcTemplate.query(sql, rs -> {
+            addRow(builder, rs);
+        }, stockCode, intervalUnit, Timestamp.valueOf(from));
+
+        return builder.build();
+    }
+
+    /**
+     * from 이후(포함) 전 종목 가격 시계열 조회 (일별 증분 반영 등 일괄 처리용)
+     *
+     * @param intervalUnit 시간 간격 (1m, 1d 등)
+     * @param from 조회 시작 시각
+     * @return 종목 코드 -> 시간 오름차순 시계열
+     */
+    public Map<String, PriceSeries> findAllSince(String intervalUnit, LocalDateTime from) {
+        String sql = """
+            SELECT stock_code, datetime, open_price, high_price, low_price, close_price, volume
+            FROM stock_prices
+            WHERE interval_unit = ?
+              AND datetime >= ?
+            ORDER BY stock_code, datetime ASC
+            """;
+
+        Map<String, PriceSeries.Builder> builders = new HashMap<>();
+        jdbcTemplate.query(sql, rs -> {
+            PriceSeries.Builder builder = builders.computeIfAbsent(rs.getString("stock_code"), code -> new PriceSeries.Builder(8));
+            addRow(builder, rs);
+        }, intervalUnit, Timestamp.valueOf(from));
+
+        Map<String, PriceSeries> result = new HashMap<>(builders.size() * 2);
+        builders.forEach((code, builder) -> result.put(code, builder.build()));
+        return result;
+    }
+
+    /**
+     * 봉 일괄 저장 (같은 종목/간격/시각의 행이 이미 있으면 건너뜀)
+     * <ul>
+     *     <li>stock_prices에 (stock_code, datetime, interval_unit) 유니크 키가 없어 NOT EXISTS로 중복 판정</li>
+     *     <li>여러 노드가 동시에 저장해도 한 행만 남도록 간격별 advisory lock을 잡고 한 트랜잭션으로 저장</li>
+     *     <li>change_amount(NOT NULL)는 같은 간격 직전 봉 종가 대비로 계산, 직전 봉이 없으면 0 (change_rate는 DB 계산 컬럼)</li>
+     * </ul>
+     *
+     * @param intervalUnit 시간 간격 (1m, 5m 등)
+     * @param barsByCode 종목 코드 -> 저장할 봉 시계열 (종목별 시간 오름차순)
+     * @return 새로 저장된 행 수
+     */
+    @Transactional
+    public int insertBars(String intervalUnit, Map<String, PriceSeries> barsByCode) {
+        String sql = """
+            INSERT INTO stock_prices (stock_code, datetime, interval_unit, open_price, high_price, low_price, close_price,
+                                      volume, change_amount)
+            SELECT b.stock_code, b.datetime, b.interval_unit, b.open_price, b.high_price, b.low_price, b.close_price,
+                   b.volume,
+                   b.close_price - COALESCE((
+                       SELECT p.close_price
+                       FROM stock_prices p
+                       WHERE p.stock_code = b.stock_code
+                         AND p.interval_unit = b.interval_unit
+                         AND p.datetime < b.datetime
+                       ORDER BY p.datetime DESC
+                       LIMIT 1
+                   ), b.close_price)
+            FROM (VALUES (?, CAST(? AS TIMESTAMP), ?, ?, ?, ?, ?, ?))
+                AS b (stock_code, datetime, interval_unit, open_price, high_price, low_price, close_price, volume)
+            WHERE NOT EXISTS (
+                SELECT 1 FROM stock_prices sp
+                WHERE sp.stock_code = b.stock_code
+                  AND sp.datetime = b.datetime
+                  AND sp.interval_unit = b.interval_unit
+            )
+            """;
+
+        List<Object[]> rows = new ArrayList<>();
+        barsByCode.forEach((code, bars) -> {
+            for (int i = 0; i < bars.size(); i++) {
+                Timestamp datetime = Timestamp.valueOf(PriceSeries.toLocalDateTime(bars.time(i)));
+                rows.add(new Object[]{
+                        code, datetime, intervalUnit,
+                        BigDecimal.valueOf(bars.open(i)), BigDecimal.valueOf(bars.high(i)),
+                        BigDecimal.valueOf(bars.low(i)), BigDecimal.valueOf(bars.close(i)), bars.volume(i)
+                });
+            }
+        });
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        jdbcTemplate.query("SELECT pg_advisory_xact_lock(hashtext(?))", rs -> { }, "stock_prices:" + intervalUnit);
+        int inserted = 0;
+        for (int count : jdbcTemplate.batchUpdate(sql, rows)) {
+            inserted += Math.max(count, 0);
+        }
+        return inserted;
+    }
+
+    private static void addRow(PriceSeries.Builder builder, ResultSet rs) throws SQLException {
+        double close = rs.getDouble("close_price");
+        double open = rs.getDouble("open_price");
+        boolean openNull = rs.wasNull();
+        double high = rs.getDouble("high_price");
+        boolean highNull = rs.wasNull();
+        double low = rs.getDouble("low_price");
+        boolean lowNull = rs.wasNull();
+        builder.add(
+                PriceSeries.toEpochMillis(rs.getTimestamp("datetime").toLocalDateTime()),
+                openNull ? close : open,
+                highNull ? close : high,
+                lowNull ? close : low,
+                close,
+                rs.getLong("volume")
+        );
+    }
+}
@@ -0,0 +1,95 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.util.BarInterval;
+
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 종목/간격별 진행 중인 봉 누적기 (lock-free)
+ * <ul>
+ *     <li>진행 중인 봉을 불변 객체로 두고 틱마다 CAS로 교체 - 여러 피드 스레드가 동시에 갱신해도 락 없음</li>
+ *     <li>다음 구간 틱이 오거나 구간 종료 후 sweep 시점에 봉이 완성되며, 완성 봉은 CAS에 성공한 한 스레드만 받음</li>
+ *     <li>이미 완성된 구간에 늦게 도착한 틱은 버림 (같은 봉이 두 번 완성되지 않도록)</li>
+ * </ul>
+ */
+class BarAccumulator {
+
+    private final String ticker;
+    private final BarInterval interval;
+    private final long durationMillis;
+    private final AtomicReference<Bar> current = new AtomicReference<>();
+    private final LongAdder lateTicks = new LongAdder();
+
+    BarAccumulator(String ticker, BarInterval interval) {
+        if (interval.fixedMillis() <= 0) {
+            throw new IllegalArgumentException("Intraday interval required: " + interval.code());
+        }
+        this.ticker = ticker;
+        this.interval = interval;
+        this.durationMillis = interval.fixedMillis();
+    }
+
+    /**
+     * 틱 반영
+     *
+     * @param time KST 벽시계 기준 epoch millis
+     * @return 이 틱으로 완성된 직전 봉, 없으면 null
+     */
+    CompletedBar onTick(long time, double price, long quantity) {
+        long bucket = interval.bucketStart(time);
+        while (true) {
+            Bar bar = current.get();
+            if (bar != null && (bucket < bar.start() || (bucket == bar.start() && bar.closed()))) {
+                lateTicks.increment();
+                return null;
+            }
+
+            if (bar == null || bucket > bar.start()) {
+                if (current.compareAndSet(bar, Bar.first(bucket, price, quantity))) {
+                    return bar == null || bar.closed() ? null : complete(bar);
+                }
+            } else if (current.compareAndSet(bar, bar.add(price, quantity))) {
+                return null;
+            }
+        }
+    }
+
+    /**
+     * 구간이 끝났는데 다음 틱이 오지 않은 봉을 완성 처리
+     *
+     * @param now KST 벽시계 기준 epoch millis
+     * @param graceMillis 지연 틱을 기다리는 유예 시간
+     * @return 완성된 봉, 없으면 null
+     */
+    CompletedBar closeIfEnded(long now, long graceMillis) {
+        Bar bar = current.get();
+        if (bar == null || bar.closed() || now < bar.start() + durationMillis + graceMillis) {
+            return null;
+        }
+        return current.compareAndSet(bar, bar.markClosed()) ? complete(bar) : null;
+    }
+
+    long lateTicks() {
+        return lateTicks.sum();
+    }
+
+    private CompletedBar complete(Bar bar) {
+        return new CompletedBar(ticker, interval, bar.start(), bar.open(), bar.high(), bar.low(), bar.close(), bar.volume());
+    }
+
+    private record Bar(long start, double open, double high, double low, double close, long volume, boolean closed) {
+
+        static Bar first(long start, double price, long quantity) {
+            return new Bar(start, price, price, price, price, quantity, false);
+        }
+
+        Bar add(double price, long quantity) {
+            return new Bar(start, open, Math.max(high, price), Math.min(low, price), price, volume + quantity, false);
+        }
+
+        Bar markClosed() {
+            return new Bar(start, open, high, low, close, volume, true);
+        }
+    }
+}
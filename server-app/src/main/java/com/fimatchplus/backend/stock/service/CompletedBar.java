@@ -0,0 +1,20 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.util.BarInterval;
+
+/**
+ * 틱 집계로 완성된 봉
+ *
+ * @param startMillis 봉 시작 시각 (KST 벽시계 기준 epoch millis, {@link com.fimatchplus.backend.stock.util.PriceSeries}와 동일)
+ */
+public record CompletedBar(
+        String ticker,
+        BarInterval interval,
+        long startMillis,
+        double open,
+        double high,
+        double low,
+        double close,
+        long volume
+) {
+}
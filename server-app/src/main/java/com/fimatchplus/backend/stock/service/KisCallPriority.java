@@ -0,0 +1,15 @@
+package com.fimatchplus.backend.stock.service;
+
+/**
+ * KIS API 호출 우선순위 (레이트 리미터 레인)
+ * <ul>
+ *     <li>INTERACTIVE: 사용자 단건 현재가 조회 - 버킷을 끝까지 사용 가능</li>
+ *     <li>VALUATION: 포트폴리오 평가 / 멀티 현재가 조회</li>
+ *     <li>BACKGROUND: 캐시 워밍 등 백그라운드 작업 - 버킷이 가장 여유 있을 때만 사용</li>
+ * </ul>
+ */
+public enum KisCallPriority {
+    INTERACTIVE,
+    VALUATION,
+    BACKGROUND
+}
@@ -0,0 +1,155 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.common.exception.KisUnavailableException;
+import com.fimatchplus.backend.common.exception.RateLimitExceededException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.SignalType;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * KIS API 호출 서킷 브레이커 (노드 로컬)
+ * <ul>
+ *     <li>CLOSED: 연속 실패가 임계치에 도달하면 OPEN으로 전환</li>
+ *     <li>OPEN: 호출하지 않고 즉시 실패 ({@link KisUnavailableException}), 대기 시간이 지나면 HALF_OPEN</li>
+ *     <li>HALF_OPEN: 프로브 호출 1건만 허용, 성공하면 CLOSED / 실패하면 다시 OPEN</li>
+ *     <li>호출 시간 제한을 넘긴 응답도 실패로 집계 (업스트림 지연 시 대기 시간 상한)</li>
+ *     <li>레이트 리미터 대기 초과는 KIS 장애가 아니므로 집계하지 않음</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class KisCircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private final boolean enabled;
+    private final int failureThreshold;
+    private final Duration openDuration;
+    private final Duration callTimeout;
+
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile long openedAtNanos;
+
+    public KisCircuitBreaker(
+            KisMetrics metrics,
+            @Value("${kis.circuit-breaker.enabled:true}") boolean enabled,
+            @Value("${kis.circuit-breaker.failure-threshold:5}") int failureThreshold,
+            @Value("${kis.circuit-breaker.open-duration-ms:30000}") long openDurationMillis,
+            @Value("${kis.circuit-breaker.call-timeout-ms:3000}") long callTimeoutMillis) {
+        this.enabled = enabled;
+        this.failureThreshold = Math.max(1, failureThreshold);
+        this.openDuration = Duration.ofMillis(openDurationMillis);
+        this.callTimeout = Duration.ofMillis(callTimeoutMillis);
+
+        metrics.registerGauge("kis.circuit.state", "KIS 서킷 상태 (0: CLOSED, 1: HALF_OPEN, 2: OPEN)",
+                this, breaker -> switch (breaker.state.get()) {
+                    case CLOSED -> 0;
+                    case HALF_OPEN -> 1;
+                    case OPEN -> 2;
+                });
+    }
+
+    /**
+     * KIS 호출을 서킷 브레이커로 감싸 실행
+     * 구독 시점에 호출 허용 여부를 판단하고, 결과(성공/실패/시간 초과)를 상태에 반영
+     */
+    public <T> Mono<T> protect(String operation, Mono<T> call) {
+        if (!enabled) {
+            return call;
+        }
+
+        return Mono.defer(() -> {
+            boolean probe = state() == State.HALF_OPEN;
+            if (!tryAcquirePermission(probe)) {
+                return Mono.error(new KisUnavailableException("KIS circuit open - " + operation));
+            }
+
+            return call.timeout(callTimeout)
+                    .doOnSuccess(ignored -> onSuccess(operation))
+                    .doOnError(e -> onError(operation, e))
+                    .doFinally(signal -> {
+                        if (probe) {
+                            probeInFlight.set(false);
+                        }
+                        if (signal == SignalType.CANCEL) {
+                            log.debug("KIS call cancelled - operation: {}", operation);
+                        }
+                    });
+        });
+    }
+
+    /**
+     * 현재 상태 (OPEN 대기 시간이 지났으면 HALF_OPEN으로 전환하여 반환)
+     */
+    public State state() {
+        State current = state.get();
+        if (current == State.OPEN && System.nanoTime() - openedAtNanos >= openDuration.toNanos()
+                && state.compareAndSet(State.OPEN, State.HALF_OPEN)) {
+            log.info("KIS circuit half-open, probing upstream");
+            return State.HALF_OPEN;
+        }
+        return state.get();
+    }
+
+    /**
+     * 호출해도 바로 실패하는 상태인지 여부 (OPEN이거나 HALF_OPEN 프로브가 진행 중)
+     */
+    public boolean isCallNotPermitted() {
+        if (!enabled) {
+            return false;
+        }
+        State current = state();
+        return current == State.OPEN || (current == State.HALF_OPEN && probeInFlight.get());
+    }
+
+    private boolean tryAcquirePermission(boolean probe) {
+        State current = state.get();
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN) {
+            return false;
+        }
+        return probe && probeInFlight.compareAndSet(false, true);
+    }
+
+    private void onSuccess(String operation) {
+        consecutiveFailures.set(0);
+        State previous = state.getAndSet(State.CLOSED);
+        if (previous != State.CLOSED) {
+            log.info("KIS circuit closed - operation: {}", operation);
+        }
+    }
+
+    private void onError(String operation, Throwable error) {
+        if (error instanceof RateLimitExceededException) {
+            return;
+        }
+
+        int failures = consecutiveFailures.incrementAndGet();
+        State current = state.get();
+        if (current == State.HALF_OPEN || (current == State.CLOSED && failures >= failureThreshold)) {
+            if (state.compareAndSet(current, State.OPEN)) {
+                openedAtNanos = System.nanoTime();
+                log.warn("KIS circuit opened - operation: {}, 연속 실패: {}, 차단 시간: {}ms, 원인: {}",
+                        operation, failures, openDuration.toMillis(), describe(error));
+            }
+        } else {
+            log.debug("KIS call failed - operation: {}, 연속 실패: {}, 원인: {}", operation, failures, describe(error));
+        }
+    }
+
+    private static String describe(Throwable error) {
+        return error instanceof TimeoutException ? "timeout" : error.getMessage();
+    }
+}
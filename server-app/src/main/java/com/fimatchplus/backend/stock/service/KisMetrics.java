@@ -0,0 +1,151 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.common.exception.KisUnavailableException;
+import com.fimatchplus.backend.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * KIS 연동 지표 (Micrometer, /actuator/prometheus로 노출)
+ * <ul>
+ *     <li>kis.api.requests: KIS API 엔드포인트별 응답 시간 히스토그램 (outcome: success/error/timeout/circuit_open/rate_limited/cancelled)</li>
+ *     <li>kis.api.inflight: 엔드포인트별 진행 중인 KIS 호출 수</li>
+ *     <li>kis.quote.lookup: 캐시/stale/KIS 호출을 포함한 시세 조회 전체 소요 시간</li>
+ *     <li>kis.quote.cache: 캐시 계층(near/redis/last_good)별 적중/미스 종목 수 - 적중률은 조회 측에서 계산</li>
+ *     <li>kis.quote.stale.served: stale 시세로 응답한 종목 수 (reason: revalidate/circuit_open/fallback)</li>
+ *     <li>kis.multiprice.batch.size: KIS 멀티 시세 1회 호출당 종목 수 분포</li>
+ *     <li>레이트 리미터 대기/거절 지표는 {@link KisRateLimiter}에서 기록 (kis.ratelimit.wait, kis.ratelimit.rejected)</li>
+ * </ul>
+ */
+@Component
+public class KisMetrics {
+
+    public enum CacheTier { NEAR, REDIS, LAST_GOOD }
+
+    private final MeterRegistry meterRegistry;
+    private final DistributionSummary batchSize;
+    private final Map<String, Timer> timers = new ConcurrentHashMap<>();
+    private final Map<String, Counter> counters = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> inFlight = new ConcurrentHashMap<>();
+
+    public KisMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.batchSize = DistributionSummary.builder("kis.multiprice.batch.size")
+                .description("KIS 멀티 시세 1회 호출당 종목 수")
+                .serviceLevelObjectives(1, 5, 10, 20, KisPriceClient.MAX_MULTI_PRICE_TICKERS)
+                .register(meterRegistry);
+    }
+
+    /**
+     * KIS API 호출 1건의 응답 시간과 진행 중 호출 수 기록 (구독 시점부터 측정)
+     *
+     * @param endpoint inquire-price, multi-price, token 등 호출 구분
+     */
+    public <T> Mono<T> timeApiCall(String endpoint, Mono<T> call) {
+        AtomicInteger endpointInFlight = inFlight.computeIfAbsent(endpoint, key -> {
+            AtomicInteger gauge = new AtomicInteger();
+            Gauge.builder("kis.api.inflight", gauge, AtomicInteger::get)
+                    .description("진행 중인 KIS API 호출 수")
+                    .tag("endpoint", key)
+                    .register(meterRegistry);
+            return gauge;
+        });
+
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            endpointInFlight.incrementAndGet();
+            return call
+                    .doOnSuccess(ignored -> record("kis.api.requests", "endpoint", endpoint, "success", startNanos))
+                    .doOnError(e -> record("kis.api.requests", "endpoint", endpoint, outcomeOf(e), startNanos))
+                    .doOnCancel(() -> record("kis.api.requests", "endpoint", endpoint, "cancelled", startNanos))
+                    .doFinally(signal -> endpointInFlight.decrementAndGet());
+        });
+    }
+
+    /**
+     * 시세 조회 전체 소요 시간 기록 (캐시 적중 포함)
+     *
+     * @param operation single, multi 등 조회 구분
+     */
+    public <T> Mono<T> timeLookup(String operation, Mono<T> lookup) {
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return lookup
+                    .doOnSuccess(ignored -> record("kis.quote.lookup", "operation", operation, "success", startNanos))
+                    .doOnError(e -> record("kis.quote.lookup", "operation", operation, outcomeOf(e), startNanos));
+        });
+    }
+
+    public void recordCacheLookup(CacheTier tier, int hits, int misses) {
+        String tierTag = tier.name().toLowerCase();
+        if (hits > 0) {
+            counter("kis.quote.cache", "tier", tierTag, "result", "hit").increment(hits);
+        }
+        if (misses > 0) {
+            counter("kis.quote.cache", "tier", tierTag, "result", "miss").increment(misses);
+        }
+    }
+
+    public void recordStaleServed(String reason, int count) {
+        if (count > 0) {
+            counter("kis.quote.stale.served", "reason", reason, null, null).increment(count);
+        }
+    }
+
+    public void recordBatchSize(int tickers) {
+        batchSize.record(tickers);
+    }
+
+    /**
+     * 외부 상태를 게이지로 노출 (single-flight 대기열 크기 등)
+     */
+    public <T> void registerGauge(String name, String description, T state, ToDoubleFunction<T> value) {
+        Gauge.builder(name, state, value)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private void record(String name, String tagKey, String tagValue, String outcome, long startNanos) {
+        timers.computeIfAbsent(name + "|" + tagValue + "|" + outcome, key -> Timer.builder(name)
+                        .tag(tagKey, tagValue)
+                        .tag("outcome", outcome)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private Counter counter(String name, String tagKey, String tagValue, String secondKey, String secondValue) {
+        return counters.computeIfAbsent(name + "|" + tagValue + "|" + secondValue, key -> {
+            Counter.Builder builder = Counter.builder(name).tag(tagKey, tagValue);
+            if (secondKey != null) {
+                builder.tag(secondKey, secondValue);
+            }
+            return builder.register(meterRegistry);
+        });
+    }
+
+    private static String outcomeOf(Throwable error) {
+        if (error instanceof TimeoutException) {
+            return "timeout";
+        }
+        if (error instanceof KisUnavailableException) {
+            return "circuit_open";
+        }
+        if (error instanceof RateLimitExceededException) {
+            return "rate_limited";
+        }
+        return "error";
+    }
+}
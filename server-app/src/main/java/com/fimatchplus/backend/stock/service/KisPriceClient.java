@@ -1,30 +1,42 @@
 package com.fimatchplus.backend.stock.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fimatchplus.backend.common.exception.KisUnavailableException;
+import com.fimatchplus.backend.common.service.DistributedLockService;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
 
 @Slf4j
 @Component
 public class KisPriceClient {
 
-    private static final String PRICE_CACHE_PREFIX = "kis:price:";
-    private static final Duration PRICE_CACHE_TTL = Duration.ofMinutes(1);
+    /**
+     * KIS 관심종목 멀티 시세 API 1회 호출당 최대 종목 수
+     */
+    public static final int MAX_MULTI_PRICE_TICKERS = 30;
+
+    private static final String QUOTE_LOCK_PREFIX = "kis:price:lock:";
+    private static final long LOCK_POLL_INTERVAL_MS = 50;
+    private static final String NO_LOCK_TOKEN = "";
 
     @Value("${kis.stock.base-url}")
     private String baseUrl;
@@ -35,241 +47,505 @@ public class KisPriceClient {
 
     private final WebClient webClient;
     private final KisTokenService kisTokenService;
-    private final StringRedisTemplate redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final KisQuoteCache quoteCache;
+    private final DistributedLockService lockService;
+    private final KisRateLimiter rateLimiter;
+    private final KisCircuitBreaker circuitBreaker;
+    private final KisMetrics metrics;
+    private final Duration quoteLockTtl;
+    private final Duration quoteWaitTimeout;
+    private final long staleServeMaxAgeMillis;
+
+    /**
+     * 티커별 진행 중인 KIS 단건 시세 요청 (노드 내 single-flight)
+     */
+    private final ConcurrentHashMap<String, CompletableFuture<KisQuote>> inFlightQuotes = new ConcurrentHashMap<>();
+
+    /**
+     * stale 시세 제공 후 백그라운드 갱신이 진행 중인 멀티 시세 티커
+     */
+    private final Set<String> revalidatingTickers = ConcurrentHashMap.newKeySet();
 
     public KisPriceClient(
             @Qualifier("stockApiWebClient") WebClient webClient, 
             KisTokenService kisTokenService,
-            StringRedisTemplate redisTemplate,
-            ObjectMapper objectMapper) {
+            KisQuoteCache quoteCache,
+            DistributedLockService lockService,
+            KisRateLimiter rateLimiter,
+            KisCircuitBreaker circuitBreaker,
+            KisMetrics metrics,
+            @Value("${kis.price.single-flight.lock-ttl-ms:3000}") long quoteLockTtlMillis,
+            @Value("${kis.price.single-flight.wait-ms:1500}") long quoteWaitMillis,
+            @Value("${kis.price.last-good.serve-max-age-ms:300000}") long staleServeMaxAgeMillis) {
         this.webClient = webClient;
         this.kisTokenService = kisTokenService;
-        this.redisTemplate = redisTemplate;
-        this.objectMapper = objectMapper;
+        this.quoteCache = quoteCache;
+        this.lockService = lockService;
+        this.rateLimiter = rateLimiter;
+        this.circuitBreaker = circuitBreaker;
+        this.metrics = metrics;
+        this.quoteLockTtl = Duration.ofMillis(quoteLockTtlMillis);
+        this.quoteWaitTimeout = Duration.ofMillis(quoteWaitMillis);
+        this.staleServeMaxAgeMillis = staleServeMaxAgeMillis;
+
+        metrics.registerGauge("kis.quote.singleflight.inflight", "노드 내 single-flight로 진행 중인 단건 시세 요청 수",
+                inFlightQuotes, Map::size);
+        metrics.registerGauge("kis.quote.revalidating", "stale 응답 후 백그라운드 갱신 중인 종목 수",
+                revalidatingTickers, Set::size);
+    }
+
+    /**
+     * 단건 현재가 조회 (블로킹 호출부용, 내부 처리는 {@link #fetchQuoteReactive(String)}와 동일)
+     */
+    public KisQuote fetchQuote(String ticker) {
+        return fetchQuoteReactive(ticker).block();
+    }
+
+    /**
+     * 단건 현재가 논블로킹 조회
+     * <ul>
+     *     <li>캐시 미스 시 같은 티커의 동시 요청은 하나의 KIS 호출 결과를 공유 (노드 내 single-flight)</li>
+     *     <li>노드 간에는 Redis 단기 락으로 한 노드만 KIS를 호출하고, 나머지는 캐시 갱신을 제한 시간 동안 대기</li>
+     *     <li>캐시 미스지만 최근 마지막 정상 시세가 있으면 stale 표시로 즉시 응답하고 백그라운드에서 갱신 (stale-while-revalidate)</li>
+     *     <li>서킷이 열려 있으면 KIS를 호출하지 않고 마지막 정상 시세로 즉시 응답</li>
+     *     <li>대기 시간 초과/호출 실패 시 마지막 정상 시세로 응답</li>
+     * </ul>
+     */
+    public Mono<KisQuote> fetchQuoteReactive(String ticker) {
+        return metrics.timeLookup("single", quoteCache.get(ticker)
+                .doOnNext(cached -> log.debug("Cache hit for ticker: {}", ticker))
+                .switchIfEmpty(Mono.defer(() -> serveStaleOrLoad(ticker))));
     }
 
-    public KisQuoteResponse fetchQuote(String ticker) {
-        KisQuoteResponse cached = getCachedPrice(ticker);
-        if (cached != null) {
-            log.debug("Cache hit for ticker: {}", ticker);
-            return cached;
+    private Mono<KisQuote> serveStaleOrLoad(String ticker) {
+        if (circuitBreaker.isCallNotPermitted()) {
+            return quoteCache.getStale(ticker)
+                    .map(KisQuote::asStale)
+                    .doOnNext(stale -> {
+                        metrics.recordStaleServed("circuit_open", 1);
+                        log.debug("KIS circuit open, serving last known price for ticker: {}", ticker);
+                    })
+                    .switchIfEmpty(Mono.error(() -> new KisUnavailableException("KIS unavailable and no last known price: " + ticker)));
         }
-        
-        log.debug("Cache miss for ticker: {}, calling KIS API", ticker);
-        String token = kisTokenService.getAccessToken();
-
-        Mono<KisQuoteResponse> responseMono = webClient
-                .get()
-                .uri(uriBuilder -> uriBuilder
-                        .path("/uapi/domestic-stock/v1/quotations/inquire-price")
-                        .queryParam("FID_COND_MRKT_DIV_CODE", "J")
-                        .queryParam("FID_INPUT_ISCD", ticker)
-                        .build())
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE + "; charset=UTF-8")
-                .header("authorization", "Bearer " + token)
-                .header("appkey", appKey)
-                .header("appsecret", appSecret)
-                .header("tr_id", "FHKST01010100")
-                .header("custtype", "P")
-                .retrieve()
-                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-                        response -> logAndExtractError(response))
-                .bodyToMono(KisQuoteResponse.class);
-
-        KisQuoteResponse response = responseMono.block();
-        
-        if (response != null) {
-            cachePrice(ticker, response);
+
+        return quoteCache.getStale(ticker)
+                .filter(last -> last.ageMillis(System.currentTimeMillis()) <= staleServeMaxAgeMillis)
+                .map(last -> {
+                    metrics.recordStaleServed("revalidate", 1);
+                    revalidateQuote(ticker);
+                    return last.asStale();
+                })
+                .switchIfEmpty(Mono.defer(() -> joinOrStartQuoteRequest(ticker, KisCallPriority.INTERACTIVE)));
+    }
+
+    /**
+     * 단건 시세 백그라운드 갱신 (백그라운드 레인 사용, 진행 중인 요청이 있으면 합류만 하므로 중복 호출 없음)
+     */
+    private void revalidateQuote(String ticker) {
+        joinOrStartQuoteRequest(ticker, KisCallPriority.BACKGROUND).subscribe(
+                refreshed -> log.debug("Revalidated quote for ticker: {}", ticker),
+                e -> log.debug("Quote revalidation failed for ticker: {}, error: {}", ticker, e.getMessage()));
+    }
+
+    /**
+     * 진행 중인 요청이 있으면 합류하고, 없으면 새로 시작
+     * 최초 요청자가 취소되더라도 KIS 호출은 끝까지 진행되어 합류한 요청들이 결과를 받음
+     *
+     * @param priority 새로 시작하는 경우 사용할 레이트 리밋 레인
+     */
+    private Mono<KisQuote> joinOrStartQuoteRequest(String ticker, KisCallPriority priority) {
+        CompletableFuture<KisQuote> candidate = new CompletableFuture<>();
+        CompletableFuture<KisQuote> inFlight = inFlightQuotes.putIfAbsent(ticker, candidate);
+
+        if (inFlight == null) {
+            inFlight = candidate;
+            candidate.whenComplete((response, error) -> inFlightQuotes.remove(ticker, candidate));
+            loadQuoteWithClusterLock(ticker, priority).subscribe(
+                    candidate::complete,
+                    candidate::completeExceptionally,
+                    () -> candidate.complete(null));
+        } else {
+            log.debug("Joining in-flight quote request for ticker: {}", ticker);
         }
-        
-        return response;
+
+        return Mono.fromFuture(inFlight, true)
+                .timeout(quoteWaitTimeout.plus(quoteLockTtl))
+                .onErrorResume(e -> quoteCache.getStale(ticker)
+                        .map(KisQuote::asStale)
+                        .doOnNext(stale -> {
+                            metrics.recordStaleServed("fallback", 1);
+                            log.warn("In-flight quote failed ({}), serving last known price for ticker: {}",
+                                    e instanceof TimeoutException ? "timeout" : e.getMessage(), ticker);
+                        })
+                        .switchIfEmpty(Mono.error(e instanceof TimeoutException
+                                ? new RuntimeException("KIS quote request timed out: " + ticker, e)
+                                : e)));
+    }
+
+    private Mono<KisQuote> loadQuoteWithClusterLock(String ticker, KisCallPriority priority) {
+        String lockKey = QUOTE_LOCK_PREFIX + ticker;
+
+        return lockService.tryLockReactive(lockKey, quoteLockTtl)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .onErrorResume(e -> {
+                    log.warn("Quote lock unavailable for ticker: {}, calling KIS without lock. error: {}", ticker, e.getMessage());
+                    return Mono.just(Optional.of(NO_LOCK_TOKEN));
+                })
+                .flatMap(lockToken -> lockToken.isPresent()
+                        ? Mono.usingWhen(
+                                Mono.just(lockToken.get()),
+                                token -> callInquirePriceApi(ticker, priority),
+                                token -> lockService.unlockReactive(lockKey, token))
+                        : awaitClusterRefresh(ticker, priority));
+    }
+
+    /**
+     * 다른 노드가 락을 보유 중인 경우: 캐시 갱신 대기 -> 마지막 정상 시세 -> 직접 호출 순으로 대체
+     */
+    private Mono<KisQuote> awaitClusterRefresh(String ticker, KisCallPriority priority) {
+        return waitForClusterRefresh(ticker)
+                .switchIfEmpty(Mono.defer(() -> quoteCache.getStale(ticker)
+                        .map(KisQuote::asStale)
+                        .doOnNext(stale -> log.warn("Quote refresh by other node timed out, serving last known price for ticker: {}", ticker))))
+                .switchIfEmpty(Mono.defer(() -> callInquirePriceApi(ticker, priority)));
     }
 
-    public KisMultiPriceResponse fetchMultiPrice(List<String> tickers) {
+    /**
+     * 다른 노드가 시세를 갱신할 때까지 캐시를 폴링하며 대기 (스레드를 점유하지 않는 타이머 기반)
+     */
+    private Mono<KisQuote> waitForClusterRefresh(String ticker) {
+        long maxPolls = Math.max(1, quoteWaitTimeout.toMillis() / LOCK_POLL_INTERVAL_MS);
+
+        return Flux.interval(Duration.ofMillis(LOCK_POLL_INTERVAL_MS))
+                .take(maxPolls)
+                .concatMap(tick -> quoteCache.get(ticker))
+                .next()
+                .doOnNext(refreshed -> log.debug("Quote refreshed by other node for ticker: {}", ticker));
+    }
+
+    private Mono<KisQuote> callInquirePriceApi(String ticker, KisCallPriority priority) {
+        log.debug("Cache miss for ticker: {}, calling KIS API (lane: {})", ticker, priority);
+
+        return rejectIfCircuitOpen("inquire-price")
+                .then(rateLimiter.acquire(priority))
+                .then(Mono.defer(kisTokenService::getAccessTokenReactive))
+                .flatMap(token -> metrics.timeApiCall("inquire-price", circuitBreaker.protect("inquire-price", webClient
+                        .get()
+                        .uri(uriBuilder -> uriBuilder
+                                .path("/uapi/domestic-stock/v1/quotations/inquire-price")
+                                .queryParam("FID_COND_MRKT_DIV_CODE", "J")
+                                .queryParam("FID_INPUT_ISCD", ticker)
+                                .build())
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE + "; charset=UTF-8")
+                        .header("authorization", "Bearer " + token)
+                        .header("appkey", appKey)
+                        .header("appsecret", appSecret)
+                        .header("tr_id", "FHKST01010100")
+                        .header("custtype", "P")
+                        .retrieve()
+                        .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                                response -> logAndExtractError(response))
+                        .bodyToMono(KisQuoteResponse.class))))
+                .map(response -> toQuote(ticker, response))
+                .flatMap(quote -> quoteCache.put(ticker, quote).thenReturn(quote));
+    }
+
+    /**
+     * 멀티 종목 현재가 조회 (블로킹 호출부용, 내부 처리는 {@link #fetchMultiPriceReactive(List)}와 동일)
+     */
+    public Map<String, KisQuote> fetchMultiPrice(List<String> tickers) {
+        return fetchMultiPriceReactive(tickers).block();
+    }
+
+    public Map<String, KisQuote> fetchMultiPrice(List<String> tickers, KisCallPriority priority) {
+        return fetchMultiPriceReactive(tickers, priority).block();
+    }
+
+    /**
+     * 멀티 종목 현재가 논블로킹 조회 (포트폴리오 평가 레인)
+     */
+    public Mono<Map<String, KisQuote>> fetchMultiPriceReactive(List<String> tickers) {
+        return fetchMultiPriceReactive(tickers, KisCallPriority.VALUATION);
+    }
+
+    /**
+     * 멀티 종목 현재가 논블로킹 조회 (최대 {@value #MAX_MULTI_PRICE_TICKERS}개)
+     * <ul>
+     *     <li>캐시 미스 종목만 KIS 멀티 시세 API로 조회 후 캐시 결과와 병합</li>
+     *     <li>최근 마지막 정상 시세가 있는 미스 종목은 stale 표시로 즉시 응답하고 백그라운드에서 갱신</li>
+     *     <li>서킷이 열려 있거나 KIS 호출이 실패하면 마지막 정상 시세로 대체 (없는 종목은 결과에서 제외)</li>
+     * </ul>
+     *
+     * @param priority KIS 호출 시 사용할 레이트 리미터 레인
+     * @return 시세를 얻은 종목만 담은 맵 (티커 -> 시세)
+     */
+    public Mono<Map<String, KisQuote>> fetchMultiPriceReactive(List<String> tickers, KisCallPriority priority) {
         if (tickers.isEmpty()) {
-            return new KisMultiPriceResponse("0", "00000", "정상처리", List.of());
+            return Mono.just(Map.of());
         }
         
-        if (tickers.size() > 30) {
-            throw new IllegalArgumentException("한 번에 최대 30개 종목까지만 조회 가능합니다. 현재: " + tickers.size());
+        if (tickers.size() > MAX_MULTI_PRICE_TICKERS) {
+            return Mono.error(new IllegalArgumentException("한 번에 최대 " + MAX_MULTI_PRICE_TICKERS + "개 종목까지만 조회 가능합니다. 현재: " + tickers.size()));
         }
 
-        Map<String, KisQuoteResponse> cachedPrices = new HashMap<>();
-        List<String> missedTickers = new ArrayList<>();
-        
-        for (String ticker : tickers) {
-            KisQuoteResponse cached = getCachedPrice(ticker);
-            if (cached != null) {
-                cachedPrices.put(ticker, cached);
-            } else {
-                missedTickers.add(ticker);
+        return metrics.timeLookup("multi", quoteCache.getAll(tickers).flatMap(cachedQuotes -> {
+            List<String> missedTickers = new ArrayList<>();
+
+            for (String ticker : tickers) {
+                if (!cachedQuotes.containsKey(ticker)) {
+                    missedTickers.add(ticker);
+                }
+            }
+
+            log.debug("Cache hit: {}/{}, missed: {}", cachedQuotes.size(), tickers.size(), missedTickers.size());
+
+            if (missedTickers.isEmpty()) {
+                return Mono.just(cachedQuotes);
             }
+
+            return quoteCache.getAllStale(missedTickers)
+                    .flatMap(lastQuotes -> loadMissedQuotes(missedTickers, lastQuotes, priority))
+                    .map(loadedQuotes -> {
+                        Map<String, KisQuote> merged = new HashMap<>(cachedQuotes);
+                        merged.putAll(loadedQuotes);
+                        return merged;
+                    });
+        }));
+    }
+
+    /**
+     * 대량 종목 현재가 스트리밍 조회 (시세가 확보되는 대로 하나씩 방출)
+     * <ul>
+     *     <li>1단계: {@value #MAX_MULTI_PRICE_TICKERS}종목 단위 캐시 MGET으로 적중 시세를 먼저 방출 (첫 응답이 목록 크기와 무관)</li>
+     *     <li>2단계: 캐시 미스 종목만 {@value #MAX_MULTI_PRICE_TICKERS}종목 청크로 나누어 최대 concurrency개씩 KIS 조회, 청크 완료 즉시 방출</li>
+     *     <li>stale/서킷 처리는 {@link #fetchMultiPriceReactive(List, KisCallPriority)}와 동일, 실패한 청크는 건너뜀</li>
+     * </ul>
+     */
+    public Flux<KisQuote> streamMultiPrice(List<String> tickers, KisCallPriority priority, int concurrency) {
+        return Flux.defer(() -> {
+            List<String> missedTickers = new ArrayList<>();
+
+            Flux<KisQuote> cachedQuotes = Flux.fromIterable(partition(tickers.stream().distinct().toList()))
+                    .concatMap(chunk -> quoteCache.getAll(chunk)
+                            .flatMapIterable(hits -> {
+                                for (String ticker : chunk) {
+                                    if (!hits.containsKey(ticker)) {
+                                        missedTickers.add(ticker);
+                                    }
+                                }
+                                return hits.values();
+                            }));
+
+            Flux<KisQuote> loadedQuotes = Flux.defer(() -> Flux.fromIterable(partition(missedTickers))
+                    .flatMap(chunk -> quoteCache.getAllStale(chunk)
+                            .flatMap(lastQuotes -> loadMissedQuotes(chunk, lastQuotes, priority))
+                            .flatMapIterable(Map::values)
+                            .onErrorResume(e -> {
+                                log.warn("KIS 스트리밍 청크 조회 실패 - 종목 수: {}, 오류: {}", chunk.size(), e.getMessage());
+                                return Flux.empty();
+                            }), concurrency));
+
+            return cachedQuotes.concatWith(loadedQuotes);
+        });
+    }
+
+    /**
+     * 멀티 시세 1회 호출 단위({@value #MAX_MULTI_PRICE_TICKERS}종목)로 분할 (원본 리스트의 subList 뷰)
+     */
+    public static List<List<String>> partition(List<String> tickers) {
+        List<List<String>> chunks = new ArrayList<>();
+        for (int from = 0; from < tickers.size(); from += MAX_MULTI_PRICE_TICKERS) {
+            chunks.add(tickers.subList(from, Math.min(from + MAX_MULTI_PRICE_TICKERS, tickers.size())));
         }
-        
-        log.debug("Cache hit: {}/{}, missed: {}", cachedPrices.size(), tickers.size(), missedTickers.size());
-        
-        if (missedTickers.isEmpty()) {
-            return buildMultiPriceResponseFromCache(cachedPrices);
+        return chunks;
+    }
+
+    /**
+     * 캐시 미스 종목 처리: 최근 stale 시세는 즉시 제공 + 백그라운드 갱신, 나머지만 KIS 동기 호출
+     */
+    private Mono<Map<String, KisQuote>> loadMissedQuotes(
+            List<String> missedTickers, Map<String, KisQuote> lastQuotes, KisCallPriority priority) {
+        if (circuitBreaker.isCallNotPermitted()) {
+            log.debug("KIS circuit open, serving last known prices for {}/{} tickers", lastQuotes.size(), missedTickers.size());
+            metrics.recordStaleServed("circuit_open", lastQuotes.size());
+            return lastQuotes.isEmpty()
+                    ? Mono.error(new KisUnavailableException("KIS unavailable and no last known prices"))
+                    : Mono.just(toStaleQuotes(lastQuotes.values()));
         }
-        
-        KisMultiPriceResponse apiResponse = callKisMultiPriceApi(missedTickers);
-        
-        if (apiResponse != null && apiResponse.output() != null) {
-            for (var priceData : apiResponse.output()) {
-                cacheMultiPriceItem(priceData);
+
+        long now = System.currentTimeMillis();
+        Map<String, KisQuote> staleQuotes = new HashMap<>();
+        List<String> loadTickers = new ArrayList<>();
+        for (String ticker : missedTickers) {
+            KisQuote last = lastQuotes.get(ticker);
+            if (last != null && last.ageMillis(now) <= staleServeMaxAgeMillis) {
+                staleQuotes.put(ticker, last.asStale());
+            } else {
+                loadTickers.add(ticker);
             }
         }
-        
-        return mergeMultiPriceResponses(cachedPrices, apiResponse);
-    }
-    
-    private KisMultiPriceResponse callKisMultiPriceApi(List<String> tickers) {
-        String token = kisTokenService.getAccessToken();
-
-        var uriBuilder = webClient.get()
-                .uri(uriBuilderParam -> {
-                    var builder = uriBuilderParam.path("/uapi/domestic-stock/v1/quotations/intstock-multprice");
-                    
-                    for (int i = 0; i < tickers.size(); i++) {
-                        builder.queryParam("FID_COND_MRKT_DIV_CODE_" + (i + 1), "J");
-                        builder.queryParam("FID_INPUT_ISCD_" + (i + 1), tickers.get(i));
+
+        metrics.recordStaleServed("revalidate", staleQuotes.size());
+        revalidateMultiPrice(new ArrayList<>(staleQuotes.keySet()));
+
+        if (loadTickers.isEmpty()) {
+            return Mono.just(staleQuotes);
+        }
+
+        return loadMultiPrice(loadTickers, priority)
+                .onErrorResume(e -> {
+                    Map<String, KisQuote> fallback = new HashMap<>();
+                    for (String ticker : loadTickers) {
+                        KisQuote last = lastQuotes.get(ticker);
+                        if (last != null) {
+                            fallback.put(ticker, last.asStale());
+                        }
+                    }
+                    if (fallback.isEmpty() && staleQuotes.isEmpty()) {
+                        return Mono.error(e);
                     }
-                    
-                    return builder.build();
+                    metrics.recordStaleServed("fallback", fallback.size());
+                    log.warn("KIS multi-price failed, serving last known prices for {}/{} tickers. error: {}",
+                            fallback.size(), loadTickers.size(), e.getMessage());
+                    return Mono.just(fallback);
+                })
+                .map(fetchedQuotes -> {
+                    Map<String, KisQuote> merged = new HashMap<>(staleQuotes);
+                    merged.putAll(fetchedQuotes);
+                    return merged;
                 });
-
-        Mono<KisMultiPriceResponse> responseMono = uriBuilder
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE + "; charset=UTF-8")
-                .header("authorization", "Bearer " + token)
-                .header("appkey", appKey)
-                .header("appsecret", appSecret)
-                .header("tr_id", "FHKST11300006")
-                .header("custtype", "P")
-                .retrieve()
-                .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
-                        response -> logAndExtractMultiPriceError(response))
-                .bodyToMono(KisMultiPriceResponse.class);
-
-        return responseMono.block();
     }
 
-    private KisQuoteResponse getCachedPrice(String ticker) {
-        try {
-            String key = PRICE_CACHE_PREFIX + ticker;
-            String cached = redisTemplate.opsForValue().get(key);
-            
-            if (cached == null || cached.isEmpty()) {
-                return null;
+    /**
+     * stale 시세로 응답한 종목을 백그라운드 레인으로 갱신 (이미 갱신 중인 종목은 제외)
+     */
+    private void revalidateMultiPrice(List<String> tickers) {
+        List<String> claimed = new ArrayList<>();
+        for (String ticker : tickers) {
+            if (revalidatingTickers.add(ticker)) {
+                claimed.add(ticker);
             }
-            
-            return objectMapper.readValue(cached, KisQuoteResponse.class);
-        } catch (Exception e) {
-            log.warn("Failed to get cached price for ticker: {}, error: {}", ticker, e.getMessage());
-            return null;
         }
+        if (claimed.isEmpty()) {
+            return;
+        }
+
+        loadMultiPrice(claimed, KisCallPriority.BACKGROUND)
+                .doFinally(signal -> claimed.forEach(revalidatingTickers::remove))
+                .subscribe(
+                        refreshed -> log.debug("Revalidated quotes for {}/{} tickers", refreshed.size(), claimed.size()),
+                        e -> log.debug("Quote revalidation failed for {} tickers, error: {}", claimed.size(), e.getMessage()));
     }
-    
-    private void cachePrice(String ticker, KisQuoteResponse response) {
-        try {
-            String key = PRICE_CACHE_PREFIX + ticker;
-            String json = objectMapper.writeValueAsString(response);
-            redisTemplate.opsForValue().set(key, json, PRICE_CACHE_TTL);
-            log.debug("Cached price for ticker: {}", ticker);
-        } catch (Exception e) {
-            log.warn("Failed to cache price for ticker: {}, error: {}", ticker, e.getMessage());
+
+    private static Map<String, KisQuote> toStaleQuotes(Collection<KisQuote> quotes) {
+        Map<String, KisQuote> staleQuotes = new HashMap<>();
+        for (KisQuote quote : quotes) {
+            staleQuotes.put(quote.ticker(), quote.asStale());
         }
+        return staleQuotes;
+    }
+
+    /**
+     * 서킷이 열려 있으면 레이트 리미터 토큰을 쓰기 전에 즉시 실패
+     */
+    private Mono<Void> rejectIfCircuitOpen(String operation) {
+        return Mono.defer(() -> circuitBreaker.isCallNotPermitted()
+                ? Mono.error(new KisUnavailableException("KIS circuit open - " + operation))
+                : Mono.empty());
     }
     
-    private void cacheMultiPriceItem(KisMultiPriceResponse.ResponseBodyOutput item) {
-        try {
-            String ticker = item.interShrnIscd();
-            if (ticker == null || ticker.isEmpty()) {
-                return;
-            }
-            
-            Map<String, Object> outputMap = new HashMap<>();
-            outputMap.put("stck_shrn_iscd", ticker);
-            outputMap.put("stck_prpr", item.inter2Prpr());
-            outputMap.put("prdy_vrss", item.inter2PrdyVrss());
-            outputMap.put("prdy_vrss_sign", item.prdyVrssSign());
-            outputMap.put("prdy_ctrt", item.prdyCtrt());
-            outputMap.put("stck_oprc", item.inter2Oprc());
-            outputMap.put("stck_hgpr", item.inter2Hgpr());
-            outputMap.put("stck_lwpr", item.inter2Lwpr());
-            outputMap.put("acml_vol", item.acmlVol());
-            outputMap.put("acml_tr_pbmn", item.acmlTrPbmn());
-            
-            KisQuoteResponse quoteResponse = new KisQuoteResponse(outputMap);
-            cachePrice(ticker, quoteResponse);
-        } catch (Exception e) {
-            log.warn("Failed to cache multi-price item: {}", e.getMessage());
+    /**
+     * 캐시를 거치지 않고 KIS에서 다시 조회하여 캐시 갱신 (캐시 워밍용)
+     *
+     * @return 갱신된 종목 수
+     */
+    public Mono<Integer> refreshMultiPriceReactive(List<String> tickers, KisCallPriority priority) {
+        if (tickers.isEmpty()) {
+            return Mono.just(0);
+        }
+
+        if (tickers.size() > MAX_MULTI_PRICE_TICKERS) {
+            return Mono.error(new IllegalArgumentException("한 번에 최대 " + MAX_MULTI_PRICE_TICKERS + "개 종목까지만 조회 가능합니다. 현재: " + tickers.size()));
         }
+
+        return loadMultiPrice(tickers, priority).map(Map::size);
     }
-    
-    private KisMultiPriceResponse buildMultiPriceResponseFromCache(Map<String, KisQuoteResponse> cachedPrices) {
-        List<KisMultiPriceResponse.ResponseBodyOutput> outputList = cachedPrices.entrySet().stream()
-                .map(entry -> {
-                    String ticker = entry.getKey();
-                    Map<String, Object> output = entry.getValue().output();
-                    
-                    return new KisMultiPriceResponse.ResponseBodyOutput(
-                            ticker,
-                            (String) output.get("stck_kor_isnm"),
-                            (String) output.get("stck_prpr"),
-                            (String) output.get("prdy_vrss"),
-                            (String) output.get("prdy_vrss_sign"),
-                            (String) output.get("prdy_ctrt"),
-                            (String) output.get("stck_sdpr"),
-                            (String) output.get("stck_oprc"),
-                            (String) output.get("stck_hgpr"),
-                            (String) output.get("stck_lwpr"),
-                            (String) output.get("acml_vol"),
-                            (String) output.get("acml_tr_pbmn")
-                    );
+
+    /**
+     * KIS 멀티 시세 호출 -> 타입 변환 -> 캐시 저장
+     */
+    private Mono<Map<String, KisQuote>> loadMultiPrice(List<String> tickers, KisCallPriority priority) {
+        return callKisMultiPriceApi(tickers, priority)
+                .flatMap(apiResponse -> {
+                    if (!"0".equals(apiResponse.rtCd())) {
+                        return Mono.error(new RuntimeException("KIS API 오류: " + apiResponse.msg1()));
+                    }
+                    Map<String, KisQuote> quotes = toQuotes(apiResponse.output());
+                    return quoteCache.putAll(quotes).thenReturn(quotes);
                 })
-                .collect(Collectors.toList());
-        
-        return new KisMultiPriceResponse("0", "00000", "정상처리(캐시)", outputList);
+                .defaultIfEmpty(Map.of());
     }
-    
-    private KisMultiPriceResponse mergeMultiPriceResponses(
-            Map<String, KisQuoteResponse> cachedPrices, 
-            KisMultiPriceResponse apiResponse) {
-        
-        List<KisMultiPriceResponse.ResponseBodyOutput> mergedOutput = new ArrayList<>();
-        
-        if (apiResponse != null && apiResponse.output() != null) {
-            mergedOutput.addAll(apiResponse.output());
+
+    private Mono<KisMultiPriceResponse> callKisMultiPriceApi(List<String> tickers, KisCallPriority priority) {
+        return rejectIfCircuitOpen("multi-price")
+                .then(rateLimiter.acquire(priority))
+                .then(Mono.defer(kisTokenService::getAccessTokenReactive))
+                .doOnNext(token -> metrics.recordBatchSize(tickers.size()))
+                .flatMap(token -> metrics.timeApiCall("multi-price", circuitBreaker.protect("multi-price", webClient.get()
+                        .uri(uriBuilderParam -> {
+                            var builder = uriBuilderParam.path("/uapi/domestic-stock/v1/quotations/intstock-multprice");
+
+                            for (int i = 0; i < tickers.size(); i++) {
+                                builder.queryParam("FID_COND_MRKT_DIV_CODE_" + (i + 1), "J");
+                                builder.queryParam("FID_INPUT_ISCD_" + (i + 1), tickers.get(i));
+                            }
+
+                            return builder.build();
+                        })
+                        .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE + "; charset=UTF-8")
+                        .header("authorization", "Bearer " + token)
+                        .header("appkey", appKey)
+                        .header("appsecret", appSecret)
+                        .header("tr_id", "FHKST11300006")
+                        .header("custtype", "P")
+                        .retrieve()
+                        .onStatus(status -> status.is4xxClientError() || status.is5xxServerError(),
+                                response -> logAndExtractMultiPriceError(response))
+                        .bodyToMono(KisMultiPriceResponse.class))));
+    }
+
+    private KisQuote toQuote(String ticker, KisQuoteResponse response) {
+        if (response.output() == null) {
+            throw new RuntimeException("KIS quote response is empty");
         }
-        
-        for (Map.Entry<String, KisQuoteResponse> entry : cachedPrices.entrySet()) {
-            String ticker = entry.getKey();
-            Map<String, Object> output = entry.getValue().output();
-            
-            KisMultiPriceResponse.ResponseBodyOutput cachedItem = 
-                    new KisMultiPriceResponse.ResponseBodyOutput(
-                            ticker,
-                            (String) output.get("stck_kor_isnm"),
-                            (String) output.get("stck_prpr"),
-                            (String) output.get("prdy_vrss"),
-                            (String) output.get("prdy_vrss_sign"),
-                            (String) output.get("prdy_ctrt"),
-                            (String) output.get("stck_sdpr"),
-                            (String) output.get("stck_oprc"),
-                            (String) output.get("stck_hgpr"),
-                            (String) output.get("stck_lwpr"),
-                            (String) output.get("acml_vol"),
-                            (String) output.get("acml_tr_pbmn")
-                    );
-            mergedOutput.add(cachedItem);
+        try {
+            return KisQuote.fromInquirePrice(ticker, response.output());
+        } catch (NumberFormatException e) {
+            throw new RuntimeException("KIS quote parse error - ticker: " + ticker + ", prpr: " + response.output().get("stck_prpr"));
         }
-        
-        String rtCd = apiResponse != null ? apiResponse.rtCd() : "0";
-        String msgCd = apiResponse != null ? apiResponse.msgCd() : "00000";
-        String msg1 = apiResponse != null ? apiResponse.msg1() : "정상처리";
-        
-        return new KisMultiPriceResponse(rtCd, msgCd, msg1, mergedOutput);
+    }
+
+    private Map<String, KisQuote> toQuotes(List<KisMultiPriceResponse.ResponseBodyOutput> items) {
+        if (items == null) {
+            return Map.of();
+        }
+
+        Map<String, KisQuote> quotes = new HashMap<>();
+        for (KisMultiPriceResponse.ResponseBodyOutput item : items) {
+            String ticker = item.interShrnIscd();
+            if (ticker == null || ticker.isEmpty()) {
+                continue;
+            }
+
+            try {
+                quotes.put(ticker, KisQuote.fromMultiPrice(item));
+            } catch (NumberFormatException e) {
+                log.warn("가격 데이터 파싱 오류 - 종목: {}, 현재가: {}, 전일대비: {}",
+                        ticker, item.inter2Prpr(), item.inter2PrdyVrss());
+            }
+        }
+        return quotes;
     }
 
     private Mono<Throwable> logAndExtractError(ClientResponse response) {
@@ -0,0 +1,119 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.domain.PriceChangeSign;
+
+import java.util.Map;
+
+/**
+ * KIS 시세 (단건/멀티 공통, 수신 시점에 한 번만 파싱)
+ *
+ * @param name          종목명 (멀티 시세에만 포함, 없으면 null)
+ * @param previousClose 전일 종가 (단건 시세는 기준가)
+ * @param marketCap     HTS 시가총액 (단건 시세에만 포함, 없으면 0)
+ * @param asOfEpochMillis KIS 응답 수신 시각
+ * @param stale         마지막 정상 시세 계층에서 대신 제공된 시세 여부 (캐시에는 저장하지 않음)
+ */
+public record KisQuote(
+        String ticker,
+        String name,
+        double currentPrice,
+        double change,
+        double changeRate,
+        PriceChangeSign sign,
+        double previousClose,
+        double openPrice,
+        double highPrice,
+        double lowPrice,
+        long volume,
+        long tradingValue,
+        double marketCap,
+        long asOfEpochMillis,
+        boolean stale
+) {
+
+    /**
+     * 마지막 정상 시세로 대신 제공할 때 사용하는 사본
+     */
+    public KisQuote asStale() {
+        if (stale) {
+            return this;
+        }
+        return new KisQuote(ticker, name, currentPrice, change, changeRate, sign, previousClose,
+                openPrice, highPrice, lowPrice, volume, tradingValue, marketCap, asOfEpochMillis, true);
+    }
+
+    /**
+     * 시세 수신 후 경과 시간(ms)
+     */
+    public long ageMillis(long nowEpochMillis) {
+        return Math.max(0L, nowEpochMillis - asOfEpochMillis);
+    }
+
+    /**
+     * 주식현재가 시세(inquire-price) 응답 변환
+     *
+     * @throws NumberFormatException 현재가가 숫자가 아닌 경우
+     */
+    public static KisQuote fromInquirePrice(String ticker, Map<String, Object> output) {
+        return new KisQuote(
+                ticker,
+                null,
+                Double.parseDouble(String.valueOf(output.get("stck_prpr"))),
+                parseDouble(output.get("prdy_vrss")),
+                parseDouble(output.get("prdy_ctrt")),
+                PriceChangeSign.fromCode(output.get("prdy_vrss_sign") != null ? String.valueOf(output.get("prdy_vrss_sign")) : null),
+                parseDouble(output.get("stck_sdpr")),
+                parseDouble(output.get("stck_oprc")),
+                parseDouble(output.get("stck_hgpr")),
+                parseDouble(output.get("stck_lwpr")),
+                parseLong(output.get("acml_vol")),
+                parseLong(output.get("acml_tr_pbmn")),
+                parseDouble(output.get("hts_avls")),
+                System.currentTimeMillis(),
+                false
+        );
+    }
+
+    /**
+     * 관심종목 멀티 시세(intstock-multprice) 응답 항목 변환
+     *
+     * @throws NumberFormatException 현재가가 숫자가 아닌 경우
+     */
+    public static KisQuote fromMultiPrice(KisMultiPriceResponse.ResponseBodyOutput item) {
+        return new KisQuote(
+                item.interShrnIscd(),
+                item.interKorIsnm(),
+                Double.parseDouble(String.valueOf(item.inter2Prpr())),
+                parseDouble(item.inter2PrdyVrss()),
+                parseDouble(item.prdyCtrt()),
+                PriceChangeSign.fromCode(item.prdyVrssSign()),
+                parseDouble(item.inter2PrdyClpr()),
+                parseDouble(item.inter2Oprc()),
+                parseDouble(item.inter2Hgpr()),
+                parseDouble(item.inter2Lwpr()),
+                parseLong(item.acmlVol()),
+                parseLong(item.acmlTrPbmn()),
+                0.0,
+                System.currentTimeMillis(),
+                false
+        );
+    }
+
+    private static double parseDouble(Object value) {
+        if (value == null) return 0.0;
+        try {
+            return Double.parseDouble(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            return 0.0;
+        }
+    }
+
+    private static long parseLong(Object value) {
+        if (value == null) return 0L;
+        try {
+            return Long.parseLong(String.valueOf(value));
+        } catch (NumberFormatException e) {
+            return (long) parseDouble(value);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.common.service.MarketSessionTtlPolicy;
+import com.fimatchplus.backend.common.util.LocalTtlCache;
+import com.fimatchplus.backend.stock.event.StockQuotesUpdatedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * KIS 시세 2단 캐시
+ * <ul>
+ *     <li>1단: JVM 로컬 near cache (크기 제한 + 엔트리별 TTL)</li>
+ *     <li>2단: Redis (kis:quote:*, {@link KisQuoteCodec} 바이너리 인코딩)</li>
+ *     <li>TTL은 {@link MarketSessionTtlPolicy}를 따름 - 장중에는 짧게, 장 마감 후/휴장일에는 다음 정규장 시작까지</li>
+ *     <li>마지막 정상 시세 (kis:quote:last:*) - 수명이 긴 별도 계층, KIS 장애/지연 시 stale 시세로 대신 사용</li>
+ *     <li>한 노드가 시세를 갱신하면 Redis pub/sub으로 다른 노드의 near cache 엔트리를 무효화</li>
+ *     <li>새 시세 저장 시 {@link StockQuotesUpdatedEvent} 발행 (노드 내 실시간 평가 갱신용)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class KisQuoteCache implements MessageListener {
+
+    private static final String QUOTE_CACHE_PREFIX = "kis:quote:";
+    private static final String LAST_QUOTE_PREFIX = "kis:quote:last:";
+    private static final String INVALIDATION_CHANNEL = "kis:price:invalidate";
+    private static final String MESSAGE_SEPARATOR = "|";
+    private static final String TICKER_SEPARATOR = ",";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final ReactiveRedisTemplate<String, byte[]> redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final LocalTtlCache<String, KisQuote> nearCache;
+    private final MarketSessionTtlPolicy ttlPolicy;
+    private final KisMetrics metrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration sessionTtl;
+    private final Duration nearCacheTtl;
+    private final Duration lastQuoteTtl;
+
+    public KisQuoteCache(
+            @Qualifier("reactiveByteArrayRedisTemplate") ReactiveRedisTemplate<String, byte[]> redisTemplate,
+            RedisMessageListenerContainer listenerContainer,
+            MarketSessionTtlPolicy ttlPolicy,
+            KisMetrics metrics,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${kis.price.session-ttl-ms:60000}") long sessionTtlMillis,
+            @Value("${kis.price.near-cache.max-size:2000}") int nearCacheMaxSize,
+            @Value("${kis.price.near-cache.ttl-ms:10000}") long nearCacheTtlMillis,
+            @Value("${kis.price.last-good.ttl-ms:259200000}") long lastQuoteTtlMillis) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.nearCache = new LocalTtlCache<>(nearCacheMaxSize);
+        this.ttlPolicy = ttlPolicy;
+        this.metrics = metrics;
+        this.eventPublisher = eventPublisher;
+        this.sessionTtl = Duration.ofMillis(sessionTtlMillis);
+        this.nearCacheTtl = Duration.ofMillis(Math.min(nearCacheTtlMillis, sessionTtlMillis));
+        this.lastQuoteTtl = Duration.ofMillis(Math.max(lastQuoteTtlMillis, sessionTtlMillis));
+    }
+
+    @PostConstruct
+    void subscribeInvalidation() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(INVALIDATION_CHANNEL));
+        log.info("Subscribed to quote invalidation channel - nodeId: {}, nearCacheTtl: {}ms", nodeId, nearCacheTtl.toMillis());
+    }
+
+    /**
+     * near cache -> Redis 순으로 조회, Redis 적중 시 near cache 적재
+     *
+     * @return 캐시 미스 시 빈 Mono
+     */
+    public Mono<KisQuote> get(String ticker) {
+        KisQuote local = nearCache.get(ticker);
+        if (local != null) {
+            metrics.recordCacheLookup(KisMetrics.CacheTier.NEAR, 1, 0);
+            return Mono.just(local);
+        }
+        metrics.recordCacheLookup(KisMetrics.CacheTier.NEAR, 0, 1);
+
+        return redisTemplate.opsForValue().get(QUOTE_CACHE_PREFIX + ticker)
+                .mapNotNull(KisQuoteCodec::decode)
+                .doOnNext(quote -> nearCache.put(ticker, quote, nearCacheTtl))
+                .doOnSuccess(quote -> metrics.recordCacheLookup(KisMetrics.CacheTier.REDIS, quote != null ? 1 : 0, quote != null ? 0 : 1))
+                .onErrorResume(e -> {
+                    log.warn("Failed to get cached quote for ticker: {}, error: {}", ticker, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 마지막 정상 시세 조회 (TTL이 지난 시세일 수 있음)
+     */
+    public Mono<KisQuote> getStale(String ticker) {
+        return redisTemplate.opsForValue().get(LAST_QUOTE_PREFIX + ticker)
+                .mapNotNull(KisQuoteCodec::decode)
+                .doOnSuccess(quote -> metrics.recordCacheLookup(KisMetrics.CacheTier.LAST_GOOD, quote != null ? 1 : 0, quote != null ? 0 : 1))
+                .onErrorResume(e -> {
+                    log.warn("Failed to get last quote for ticker: {}, error: {}", ticker, e.getMessage());
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * 여러 종목의 마지막 정상 시세 일괄 조회 (MGET 1회)
+     *
+     * @return 마지막 정상 시세가 존재하는 종목만 담은 맵 (티커 -> 시세)
+     */
+    public Mono<Map<String, KisQuote>> getAllStale(Collection<String> tickers) {
+        if (tickers.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        List<String> orderedTickers = new ArrayList<>(tickers);
+        List<String> keys = new ArrayList<>(orderedTickers.size());
+        for (String ticker : orderedTickers) {
+            keys.add(LAST_QUOTE_PREFIX + ticker);
+        }
+
+        return redisTemplate.opsForValue().multiGet(keys)
+                .map(values -> {
+                    Map<String, KisQuote> quotes = new HashMap<>();
+                    for (int i = 0; i < orderedTickers.size() && i < values.size(); i++) {
+                        KisQuote quote = KisQuoteCodec.decode(values.get(i));
+                        if (quote != null) {
+                            quotes.put(orderedTickers.get(i), quote);
+                        }
+                    }
+                    metrics.recordCacheLookup(KisMetrics.CacheTier.LAST_GOOD, quotes.size(), orderedTickers.size() - quotes.size());
+                    return quotes;
+                })
+                .onErrorResume(e -> {
+                    log.warn("Failed to multi-get last quotes for {} tickers, error: {}", keys.size(), e.getMessage());
+                    return Mono.just(Map.of());
+                })
+                .defaultIfEmpty(Map.of());
+    }
+
+    /**
+     * 여러 종목 일괄 조회
+     * near cache 미스 종목만 MGET 한 번으로 Redis에서 가져와 디코딩
+     *
+     * @return 캐시에 존재하는 종목만 담은 맵 (티커 -> 시세)
+     */
+    public Mono<Map<String, KisQuote>> getAll(Collection<String> tickers) {
+        Map<String, KisQuote> hits = new HashMap<>();
+        List<String> remoteTickers = new ArrayList<>();
+
+        for (String ticker : tickers) {
+            KisQuote local = nearCache.get(ticker);
+            if (local != null) {
+                hits.put(ticker, local);
+            } else {
+                remoteTickers.add(ticker);
+            }
+        }
+
+        metrics.recordCacheLookup(KisMetrics.CacheTier.NEAR, hits.size(), remoteTickers.size());
+        if (remoteTickers.isEmpty()) {
+            return Mono.just(hits);
+        }
+
+        List<String> keys = new ArrayList<>(remoteTickers.size());
+        for (String ticker : remoteTickers) {
+            keys.add(QUOTE_CACHE_PREFIX + ticker);
+        }
+
+        return redisTemplate.opsForValue().multiGet(keys)
+                .map(values -> {
+                    int remoteHits = 0;
+                    for (int i = 0; i < remoteTickers.size() && i < values.size(); i++) {
+                        KisQuote quote = KisQuoteCodec.decode(values.get(i));
+                        if (quote == null) {
+                            continue;
+                        }
+
+                        String ticker = remoteTickers.get(i);
+                        nearCache.put(ticker, quote, nearCacheTtl);
+                        hits.put(ticker, quote);
+                        remoteHits++;
+                    }
+                    metrics.recordCacheLookup(KisMetrics.CacheTier.REDIS, remoteHits, remoteTickers.size() - remoteHits);
+                    return hits;
+                })
+                .onErrorResume(e -> {
+                    log.warn("Failed to multi-get cached quotes for {} tickers, error: {}", keys.size(), e.getMessage());
+                    return Mono.just(hits);
+                })
+                .defaultIfEmpty(hits);
+    }
+
+    /**
+     * 여러 종목 일괄 저장
+     * <ul>
+     *     <li>SET(TTL)과 무효화 메시지 발행을 응답 대기 없이 한꺼번에 전송 (Lettuce 공유 커넥션에서 파이프라이닝)</li>
+     *     <li>장 마감 후에는 시세가 바뀌지 않으므로 near cache도 다음 정규장 시작까지 유지</li>
+     * </ul>
+     */
+    public Mono<Void> putAll(Map<String, KisQuote> quotes) {
+        if (quotes.isEmpty()) {
+            return Mono.empty();
+        }
+
+        boolean priceMoving = ttlPolicy.isPriceMoving();
+        Duration quoteTtl = ttlPolicy.ttl(sessionTtl);
+        Duration localTtl = priceMoving && nearCacheTtl.compareTo(quoteTtl) < 0 ? nearCacheTtl : quoteTtl;
+        Duration lastTtl = lastQuoteTtl.compareTo(quoteTtl) > 0 ? lastQuoteTtl : quoteTtl;
+
+        Map<String, byte[]> encoded = new HashMap<>();
+        for (Map.Entry<String, KisQuote> entry : quotes.entrySet()) {
+            nearCache.put(entry.getKey(), entry.getValue(), localTtl);
+            encoded.put(entry.getKey(), KisQuoteCodec.encode(entry.getValue()));
+        }
+
+        try {
+            eventPublisher.publishEvent(new StockQuotesUpdatedEvent(Map.copyOf(quotes)));
+        } catch (Exception e) {
+            log.warn("Failed to publish quote update event for {} tickers, error: {}", quotes.size(), e.getMessage());
+        }
+
+        byte[] message = (nodeId + MESSAGE_SEPARATOR + String.join(TICKER_SEPARATOR, quotes.keySet()))
+                .getBytes(StandardCharsets.UTF_8);
+
+        return Flux.fromIterable(encoded.entrySet())
+                .flatMap(entry -> Mono.when(
+                        redisTemplate.opsForValue().set(QUOTE_CACHE_PREFIX + entry.getKey(), entry.getValue(), quoteTtl),
+                        redisTemplate.opsForValue().set(LAST_QUOTE_PREFIX + entry.getKey(), entry.getValue(), lastTtl)))
+                .then(redisTemplate.convertAndSend(INVALIDATION_CHANNEL, message))
+                .doOnSuccess(ignored -> log.debug("Cached quotes for {} tickers, ttl: {}s", encoded.size(), quoteTtl.toSeconds()))
+                .onErrorResume(e -> {
+                    log.warn("Failed to cache quotes for {} tickers, error: {}", encoded.size(), e.getMessage());
+                    return Mono.empty();
+                })
+                .then();
+    }
+
+    /**
+     * 두 계층에 모두 저장하고 다른 노드에 무효화 메시지 발행
+     */
+    public Mono<Void> put(String ticker, KisQuote quote) {
+        return putAll(Map.of(ticker, quote));
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        int separator = body.indexOf(MESSAGE_SEPARATOR);
+        if (separator < 0) {
+            return;
+        }
+
+        String sourceNodeId = body.substring(0, separator);
+        if (nodeId.equals(sourceNodeId)) {
+            return;
+        }
+
+        String tickers = body.substring(separator + 1);
+        for (String ticker : tickers.split(TICKER_SEPARATOR)) {
+            nearCache.invalidate(ticker);
+        }
+        log.debug("Invalidated near cache for tickers: {} (source node: {})", tickers, sourceNodeId);
+    }
+}
@@ -0,0 +1,96 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.domain.PriceChangeSign;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * {@link KisQuote} 고정 레이아웃 바이너리 인코딩 (Redis 캐시 값)
+ * <pre>
+ * [version:1][tickerLen:2][ticker][nameLen:2 (-1 = null)][name]
+ * [currentPrice:8][change:8][changeRate:8][previousClose:8][open:8][high:8][low:8][marketCap:8]
+ * [sign:1][volume:8][tradingValue:8][asOf:8]
+ * </pre>
+ */
+final class KisQuoteCodec {
+
+    private static final byte VERSION = 1;
+    private static final int FIXED_SIZE = 1 + 2 + 2 + 8 * 8 + 1 + 8 * 3;
+
+    private KisQuoteCodec() {
+    }
+
+    static byte[] encode(KisQuote quote) {
+        byte[] ticker = quote.ticker().getBytes(StandardCharsets.UTF_8);
+        byte[] name = quote.name() != null ? quote.name().getBytes(StandardCharsets.UTF_8) : null;
+
+        ByteBuffer buffer = ByteBuffer.allocate(FIXED_SIZE + ticker.length + (name != null ? name.length : 0));
+        buffer.put(VERSION);
+        buffer.putShort((short) ticker.length).put(ticker);
+        if (name != null) {
+            buffer.putShort((short) name.length).put(name);
+        } else {
+            buffer.putShort((short) -1);
+        }
+        buffer.putDouble(quote.currentPrice())
+                .putDouble(quote.change())
+                .putDouble(quote.changeRate())
+                .putDouble(quote.previousClose())
+                .putDouble(quote.openPrice())
+                .putDouble(quote.highPrice())
+                .putDouble(quote.lowPrice())
+                .putDouble(quote.marketCap());
+        buffer.put((byte) quote.sign().getCode().charAt(0));
+        buffer.putLong(quote.volume())
+                .putLong(quote.tradingValue())
+                .putLong(quote.asOfEpochMillis());
+        return buffer.array();
+    }
+
+    /**
+     * @return 알 수 없는 버전이거나 손상된 값이면 null
+     */
+    static KisQuote decode(byte[] bytes) {
+        if (bytes == null || bytes.length < FIXED_SIZE) {
+            return null;
+        }
+
+        try {
+            ByteBuffer buffer = ByteBuffer.wrap(bytes);
+            if (buffer.get() != VERSION) {
+                return null;
+            }
+
+            String ticker = readString(buffer, buffer.getShort());
+            short nameLength = buffer.getShort();
+            String name = nameLength >= 0 ? readString(buffer, nameLength) : null;
+
+            double currentPrice = buffer.getDouble();
+            double change = buffer.getDouble();
+            double changeRate = buffer.getDouble();
+            double previousClose = buffer.getDouble();
+            double openPrice = buffer.getDouble();
+            double highPrice = buffer.getDouble();
+            double lowPrice = buffer.getDouble();
+            double marketCap = buffer.getDouble();
+            PriceChangeSign sign = PriceChangeSign.fromCode(String.valueOf((char) buffer.get()));
+            long volume = buffer.getLong();
+            long tradingValue = buffer.getLong();
+            long asOfEpochMillis = buffer.getLong();
+
+            return new KisQuote(
+                    ticker, name, currentPrice, change, changeRate, sign, previousClose,
+                    openPrice, highPrice, lowPrice, volume, tradingValue, marketCap, asOfEpochMillis, false
+            );
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    private static String readString(ByteBuffer buffer, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
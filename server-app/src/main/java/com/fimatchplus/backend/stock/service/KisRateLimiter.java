@@ -0,0 +1,153 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 클러스터 공용 KIS API 레이트 리미터 (Redis 토큰 버킷)
+ * <ul>
+ *     <li>모든 노드가 하나의 버킷(kis:ratelimit:bucket)을 공유하며, 리필/차감은 Lua 스크립트로 원자 처리</li>
+ *     <li>하위 레인은 버킷에 예약분(reserve)을 남겨야만 토큰을 가져갈 수 있어 상위 레인이 우선 처리됨</li>
+ *     <li>토큰이 없으면 실패하지 않고 레인별 최대 대기 시간 동안 타이머 기반으로 재시도</li>
+ *     <li>Redis 장애 시에는 호출을 막지 않고 통과 (fail-open)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class KisRateLimiter {
+
+    private static final String BUCKET_KEY = "kis:ratelimit:bucket";
+    private static final long MIN_RETRY_DELAY_MS = 5;
+
+    /**
+     * KEYS[1]=버킷, ARGV[1]=용량, ARGV[2]=초당 리필 수, ARGV[3]=차감 후 남아야 할 예약분
+     * 반환: 0이면 획득, 양수면 획득 가능해질 때까지 예상 대기(ms)
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>("""
+            local capacity = tonumber(ARGV[1])
+            local rate = tonumber(ARGV[2])
+            local reserve = tonumber(ARGV[3])
+            local time = redis.call('TIME')
+            local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+            local state = redis.call('HMGET', KEYS[1], 'tokens', 'ts')
+            local tokens = tonumber(state[1])
+            local ts = tonumber(state[2])
+            if tokens == nil or ts == nil then
+              tokens = capacity
+              ts = now
+            end
+            tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000)
+            local wait = 0
+            if tokens - 1 >= reserve then
+              tokens = tokens - 1
+            else
+              wait = math.ceil((reserve + 1 - tokens) * 1000 / rate)
+            end
+            redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now))
+            redis.call('PEXPIRE', KEYS[1], math.ceil(capacity * 1000 / rate) + 1000)
+            return wait
+            """, Long.class);
+
+    private final ReactiveStringRedisTemplate redisTemplate;
+    private final boolean enabled;
+    private final int capacity;
+    private final double refillPerSecond;
+    private final Map<KisCallPriority, Lane> lanes = new EnumMap<>(KisCallPriority.class);
+
+    public KisRateLimiter(
+            ReactiveStringRedisTemplate redisTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${kis.rate-limit.enabled:true}") boolean enabled,
+            @Value("${kis.rate-limit.capacity:20}") int capacity,
+            @Value("${kis.rate-limit.refill-per-second:18}") double refillPerSecond,
+            @Value("${kis.rate-limit.valuation-reserve-ratio:0.2}") double valuationReserveRatio,
+            @Value("${kis.rate-limit.background-reserve-ratio:0.5}") double backgroundReserveRatio,
+            @Value("${kis.rate-limit.interactive-max-wait-ms:2000}") long interactiveMaxWaitMillis,
+            @Value("${kis.rate-limit.valuation-max-wait-ms:3000}") long valuationMaxWaitMillis,
+            @Value("${kis.rate-limit.background-max-wait-ms:10000}") long backgroundMaxWaitMillis) {
+        this.redisTemplate = redisTemplate;
+        this.enabled = enabled;
+        this.capacity = capacity;
+        this.refillPerSecond = refillPerSecond;
+
+        lanes.put(KisCallPriority.INTERACTIVE, new Lane(0, Duration.ofMillis(interactiveMaxWaitMillis), KisCallPriority.INTERACTIVE, meterRegistry));
+        lanes.put(KisCallPriority.VALUATION, new Lane(capacity * valuationReserveRatio, Duration.ofMillis(valuationMaxWaitMillis), KisCallPriority.VALUATION, meterRegistry));
+        lanes.put(KisCallPriority.BACKGROUND, new Lane(capacity * backgroundReserveRatio, Duration.ofMillis(backgroundMaxWaitMillis), KisCallPriority.BACKGROUND, meterRegistry));
+    }
+
+    /**
+     * 토큰 1개 획득 (대기 시간 초과 시 {@link RateLimitExceededException})
+     */
+    public Mono<Void> acquire(KisCallPriority priority) {
+        if (!enabled) {
+            return Mono.empty();
+        }
+
+        Lane lane = lanes.get(priority);
+        return Mono.defer(() -> {
+            long startNanos = System.nanoTime();
+            return attempt(lane, startNanos, startNanos + lane.maxWait().toNanos());
+        });
+    }
+
+    private Mono<Void> attempt(Lane lane, long startNanos, long deadlineNanos) {
+        return redisTemplate.execute(ACQUIRE_SCRIPT, List.of(BUCKET_KEY),
+                        List.of(String.valueOf(capacity), String.valueOf(refillPerSecond), String.valueOf(lane.reserve())))
+                .next()
+                .onErrorResume(e -> {
+                    log.warn("KIS rate limiter unavailable, allowing call - lane: {}, error: {}", lane.priority(), e.getMessage());
+                    return Mono.just(0L);
+                })
+                .flatMap(waitMillis -> {
+                    long now = System.nanoTime();
+                    if (waitMillis <= 0) {
+                        lane.waitTimer().record(now - startNanos, TimeUnit.NANOSECONDS);
+                        return Mono.<Void>empty();
+                    }
+
+                    long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadlineNanos - now);
+                    if (remainingMillis <= 0) {
+                        lane.rejected().increment();
+                        log.warn("KIS rate limit wait exceeded - lane: {}, waited: {}ms", lane.priority(), TimeUnit.NANOSECONDS.toMillis(now - startNanos));
+                        return Mono.<Void>error(new RateLimitExceededException("시세 조회 요청이 많아 잠시 후 다시 시도해주세요."));
+                    }
+
+                    long jitter = ThreadLocalRandom.current().nextLong(MIN_RETRY_DELAY_MS);
+                    long delayMillis = Math.min(remainingMillis, Math.max(MIN_RETRY_DELAY_MS, waitMillis) + jitter);
+                    return Mono.delay(Duration.ofMillis(delayMillis))
+                            .then(Mono.defer(() -> attempt(lane, startNanos, deadlineNanos)));
+                });
+    }
+
+    private record Lane(double reserve, Duration maxWait, KisCallPriority priority, Timer waitTimer, Counter rejected) {
+
+        Lane(double reserve, Duration maxWait, KisCallPriority priority, MeterRegistry meterRegistry) {
+            this(reserve, maxWait, priority,
+                    Timer.builder("kis.ratelimit.wait")
+                            .description("KIS 레이트 리미터 토큰 획득 대기 시간")
+                            .tag("lane", priority.name().toLowerCase())
+                            .publishPercentileHistogram()
+                            .register(meterRegistry),
+                    Counter.builder("kis.ratelimit.rejected")
+                            .description("최대 대기 시간 초과로 거절된 KIS 호출 수")
+                            .tag("lane", priority.name().toLowerCase())
+                            .register(meterRegistry));
+        }
+    }
+}
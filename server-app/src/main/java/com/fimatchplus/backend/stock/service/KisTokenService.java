@@ -1,25 +1,50 @@
 package com.fimatchplus.backend.stock.service;
 
+import com.fimatchplus.backend.common.service.DistributedLockService;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
 
+/**
+ * KIS 접근 토큰 관리
+ * <ul>
+ *     <li>토큰은 메모리(volatile)에 보관하며, 호출 경로에서는 I/O 없이 읽기만 수행</li>
+ *     <li>만료 전 refresh-ahead 시점부터 백그라운드 스케줄러가 미리 갱신</li>
+ *     <li>갱신은 노드 내 single-flight + Redis 락으로 클러스터 전체에서 한 번만 발급</li>
+ *     <li>다른 노드가 발급한 토큰은 Redis(kis-token)에서 가져와 재사용</li>
+ * </ul>
+ */
+@Slf4j
 @Service
 public class KisTokenService {
 
     private static final String TOKEN_KEY = "kis-token";
+    private static final String TOKEN_LOCK_KEY = "kis-token:lock";
+    private static final Duration TOKEN_LOCK_TTL = Duration.ofSeconds(10);
+    private static final Duration TOKEN_WAIT_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration TOKEN_POLL_INTERVAL = Duration.ofMillis(200);
 
-    private final StringRedisTemplate redisTemplate;
+    private final ReactiveStringRedisTemplate reactiveRedisTemplate;
     private final WebClient stockApiWebClient;
+    private final DistributedLockService lockService;
+    private final KisMetrics metrics;
+    private final Duration refreshAhead;
 
     @Value("${kis.stock.app-key}")
     private String appKey;
@@ -27,21 +52,126 @@ public class KisTokenService {
     @Value("${kis.stock.app-secret}")
     private String appSecret;
 
-    public KisTokenService(StringRedisTemplate redisTemplate, @Qualifier("stockApiWebClient") WebClient stockApiWebClient) {
-        this.redisTemplate = redisTemplate;
+    private volatile CachedToken currentToken;
+
+    /**
+     * 진행 중인 토큰 갱신 (노드 내 single-flight)
+     */
+    private final AtomicReference<CompletableFuture<CachedToken>> inFlightRefresh = new AtomicReference<>();
+
+    public KisTokenService(
+            ReactiveStringRedisTemplate reactiveRedisTemplate,
+            @Qualifier("stockApiWebClient") WebClient stockApiWebClient,
+            DistributedLockService lockService,
+            KisMetrics metrics,
+            @Value("${kis.token.refresh-ahead-ms:600000}") long refreshAheadMillis) {
+        this.reactiveRedisTemplate = reactiveRedisTemplate;
         this.stockApiWebClient = stockApiWebClient;
+        this.lockService = lockService;
+        this.metrics = metrics;
+        this.refreshAhead = Duration.ofMillis(refreshAheadMillis);
     }
 
-    public String getAccessToken() {
-        String cached = redisTemplate.opsForValue().get(TOKEN_KEY);
-        if (cached != null && !cached.isEmpty()) {
-            return cached;
+    /**
+     * 논블로킹 토큰 조회 (메모리 -> 만료 시 single-flight 갱신)
+     */
+    public Mono<String> getAccessTokenReactive() {
+        CachedToken token = currentToken;
+        if (token != null && !token.isExpired()) {
+            return Mono.just(token.value());
+        }
+        return refreshToken().map(CachedToken::value);
+    }
+
+    /**
+     * 만료 refresh-ahead 이전이면 미리 갱신 (첫 실행 시 토큰 적재)
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${kis.token.refresh-check-ms:60000}")
+    public void refreshIfNeeded() {
+        CachedToken token = currentToken;
+        if (token != null && !token.expiresWithin(refreshAhead)) {
+            return;
+        }
+
+        try {
+            CachedToken refreshed = refreshToken().block();
+            log.info("KIS access token refreshed in background - expires in {}s", refreshed.remaining().toSeconds());
+        } catch (Exception e) {
+            log.warn("Background KIS token refresh failed: {}", e.getMessage());
         }
-        return issueAndCacheToken();
     }
 
-    private String issueAndCacheToken() {
-        KisTokenResponse resp = stockApiWebClient
+    private Mono<CachedToken> refreshToken() {
+        while (true) {
+            CompletableFuture<CachedToken> existing = inFlightRefresh.get();
+            if (existing != null) {
+                return Mono.fromFuture(existing, true);
+            }
+
+            CompletableFuture<CachedToken> candidate = new CompletableFuture<>();
+            if (inFlightRefresh.compareAndSet(null, candidate)) {
+                candidate.whenComplete((token, error) -> inFlightRefresh.compareAndSet(candidate, null));
+                loadToken().subscribe(
+                        token -> {
+                            currentToken = token;
+                            candidate.complete(token);
+                        },
+                        candidate::completeExceptionally,
+                        () -> candidate.completeExceptionally(new IllegalStateException("Failed to issue KIS access token")));
+                return Mono.fromFuture(candidate, true);
+            }
+        }
+    }
+
+    /**
+     * Redis의 유효 토큰 재사용 -> 없으면 락을 잡은 노드만 발급, 나머지는 발급 결과를 대기
+     */
+    private Mono<CachedToken> loadToken() {
+        return readFreshSharedToken()
+                .switchIfEmpty(Mono.defer(() -> lockService.tryLockReactive(TOKEN_LOCK_KEY, TOKEN_LOCK_TTL)
+                        .map(Optional::of)
+                        .defaultIfEmpty(Optional.empty())
+                        .flatMap(lockToken -> lockToken.isPresent()
+                                ? Mono.usingWhen(
+                                        Mono.just(lockToken.get()),
+                                        token -> readFreshSharedToken().switchIfEmpty(Mono.defer(this::issueAndCacheToken)),
+                                        token -> lockService.unlockReactive(TOKEN_LOCK_KEY, token))
+                                : waitForSharedToken())));
+    }
+
+    /**
+     * 다른 노드의 발급을 기다린 뒤, 시간이 초과되면 아직 유효한 메모리 토큰으로 대체
+     */
+    private Mono<CachedToken> waitForSharedToken() {
+        return Flux.interval(TOKEN_POLL_INTERVAL)
+                .take(TOKEN_WAIT_TIMEOUT.toMillis() / TOKEN_POLL_INTERVAL.toMillis())
+                .concatMap(tick -> readFreshSharedToken())
+                .next()
+                .switchIfEmpty(Mono.defer(() -> {
+                    CachedToken token = currentToken;
+                    if (token != null && !token.isExpired()) {
+                        log.warn("Timed out waiting for KIS token issued by other node, keeping current token");
+                        return Mono.just(token);
+                    }
+                    return Mono.error(new IllegalStateException("Timed out waiting for KIS access token"));
+                }));
+    }
+
+    /**
+     * Redis에 저장된 토큰 중 refresh-ahead 이후까지 유효한 것만 반환
+     */
+    private Mono<CachedToken> readFreshSharedToken() {
+        return Mono.zip(
+                        reactiveRedisTemplate.opsForValue().get(TOKEN_KEY).filter(value -> !value.isEmpty()),
+                        reactiveRedisTemplate.getExpire(TOKEN_KEY))
+                .map(tuple -> new CachedToken(tuple.getT1(), System.currentTimeMillis() + tuple.getT2().toMillis()))
+                .filter(token -> !token.expiresWithin(refreshAhead));
+    }
+
+    private Mono<CachedToken> issueAndCacheToken() {
+        log.info("Issuing new KIS access token");
+
+        return metrics.timeApiCall("token", stockApiWebClient
                 .post()
                 .uri("/oauth2/tokenP")
                 .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE + "; charset=" + StandardCharsets.UTF_8)
@@ -51,17 +181,30 @@ public class KisTokenService {
                         "appsecret", appSecret
                 )))
                 .retrieve()
-                .bodyToMono(KisTokenResponse.class)
-                .block();
+                .bodyToMono(KisTokenResponse.class))
+                .filter(resp -> resp.access_token() != null && !resp.access_token().isEmpty())
+                .switchIfEmpty(Mono.error(() -> new IllegalStateException("Failed to issue KIS access token")))
+                .flatMap(resp -> {
+                    long ttlSeconds = (long) Math.max(0, Math.floor(resp.expires_in()));
+                    CachedToken token = new CachedToken(resp.access_token(), System.currentTimeMillis() + ttlSeconds * 1000);
+                    return reactiveRedisTemplate.opsForValue()
+                            .set(TOKEN_KEY, resp.access_token(), Duration.ofSeconds(ttlSeconds))
+                            .thenReturn(token);
+                });
+    }
 
-        if (resp == null || resp.access_token() == null || resp.access_token().isEmpty()) {
-            throw new IllegalStateException("Failed to issue KIS access token");
+    private record CachedToken(String value, long expiresAtMillis) {
+
+        boolean isExpired() {
+            return System.currentTimeMillis() >= expiresAtMillis;
+        }
+
+        boolean expiresWithin(Duration window) {
+            return System.currentTimeMillis() + window.toMillis() >= expiresAtMillis;
         }
 
-        long ttlSeconds = (long) Math.max(0, Math.floor(resp.expires_in()));
-        redisTemplate.opsForValue().set(TOKEN_KEY, resp.access_token(), Duration.ofSeconds(ttlSeconds));
-        return resp.access_token();
+        Duration remaining() {
+            return Duration.ofMillis(Math.max(0, expiresAtMillis - System.currentTimeMillis()));
+        }
     }
 }
-
-
@@ -0,0 +1,274 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.util.PriceSeries;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일봉 가격 이력 파일 아카이브 (종목당 1파일, 메모리 매핑 읽기)
+ * <ul>
+ *     <li>헤더 32바이트: magic, version, 레코드 크기, 기준 시각(epoch seconds), 레코드 수</li>
+ *     <li>레코드 28바이트 고정폭: 기준 시각 대비 초 단위 차이(int), OHLC(원 x 100, int), 거래량(long)</li>
+ *     <li>읽기는 매핑된 버퍼에서 이진 탐색 후 필요한 구간만 primitive 배열로 복사 (OS 페이지 캐시 활용)</li>
+ *     <li>전체 재작성은 임시 파일 작성 후 원자적 교체, 일별 증분은 파일 끝에 추가 후 레코드 수 갱신</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PriceArchive {
+
+    private static final int MAGIC = 0x464D5041; // "FMPA"
+    private static final short VERSION = 1;
+    private static final int HEADER_BYTES = 32;
+    private static final int RECORD_BYTES = 28;
+    private static final int COUNT_OFFSET = 16;
+    private static final double PRICE_SCALE = 100.0;
+    private static final String FILE_SUFFIX = ".1d.bin";
+
+    private final boolean enabled;
+    private final Path directory;
+    private final ConcurrentHashMap<String, Mapped> mappings = new ConcurrentHashMap<>();
+
+    public PriceArchive(
+            @Value("${stock.archive.enabled:true}") boolean enabled,
+            @Value("${stock.archive.dir:./data/price-archive}") String directory) {
+        this.enabled = enabled;
+        this.directory = Paths.get(directory);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean exists(String ticker) {
+        return enabled && Files.exists(pathOf(ticker));
+    }
+
+    /**
+     * [from, to] 구간 일봉 조회 (양 끝 포함, epoch millis)
+     *
+     * @return 아카이브 파일이 없거나 읽을 수 없으면 빈 Optional
+     */
+    public Optional<PriceSeries> read(String ticker, long fromMillis, long toMillis) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Mapped mapped = mapping(ticker);
+        if (mapped == null) {
+            return Optional.empty();
+        }
+
+        int from = mapped.lowerBound(Math.floorDiv(fromMillis, 1000L));
+        int to = mapped.upperBound(Math.floorDiv(toMillis, 1000L));
+        PriceSeries.Builder builder = new PriceSeries.Builder(Math.max(to - from, 0));
+        for (int i = from; i < to; i++) {
+            mapped.readInto(i, builder);
+        }
+        return Optional.of(builder.build());
+    }
+
+    /**
+     * 아카이브 마지막 봉 시각 (epoch millis)
+     */
+    public Optional<Long> lastTime(String ticker) {
+        Mapped mapped = enabled ? mapping(ticker) : null;
+        if (mapped == null || mapped.count() == 0) {
+            return Optional.empty();
+        }
+        return Optional.of(mapped.timeSeconds(mapped.count() - 1) * 1000L);
+    }
+
+    /**
+     * 전체 이력으로 파일 재작성 (임시 파일 작성 후 원자적 교체)
+     */
+    public synchronized void write(String ticker, PriceSeries series) throws IOException {
+        if (series.isEmpty()) {
+            return;
+        }
+
+        Files.createDirectories(directory);
+        long baseSeconds = Math.floorDiv(series.firstTime(), 1000L);
+
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + series.size() * RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        buffer.putInt(MAGIC);
+        buffer.putShort(VERSION);
+        buffer.putShort((short) RECORD_BYTES);
+        buffer.putLong(baseSeconds);
+        buffer.putInt(series.size());
+        buffer.position(HEADER_BYTES);
+        for (int i = 0; i < series.size(); i++) {
+            putRecord(buffer, series, i, baseSeconds);
+        }
+        buffer.flip();
+
+        Path target = pathOf(ticker);
+        Path temp = directory.resolve(ticker + FILE_SUFFIX + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        mappings.remove(ticker);
+    }
+
+    /**
+     * 증분 반영
+     * 마지막 봉과 같은 시각은 덮어쓰고 이후 봉은 파일 끝에 추가, 더 이전 봉이 섞여 있으면 전체 재작성
+     *
+     * @return 반영 여부 (아카이브 파일이 없으면 false)
+     */
+    public synchronized boolean append(String ticker, PriceSeries tail) throws IOException {
+        if (tail.isEmpty()) {
+            return true;
+        }
+
+        Mapped mapped = mapping(ticker);
+        if (mapped == null) {
+            return false;
+        }
+
+        long firstSeconds = Math.floorDiv(tail.firstTime(), 1000L);
+        if (mapped.count() > 0 && firstSeconds < mapped.timeSeconds(mapped.count() - 1)) {
+            PriceSeries archived = read(ticker, Long.MIN_VALUE / 2, Long.MAX_VALUE / 2).orElse(PriceSeries.empty());
+            write(ticker, archived.merge(tail));
+            return true;
+        }
+
+        ByteBuffer records = ByteBuffer.allocate(tail.size() * RECORD_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < tail.size(); i++) {
+            putRecord(records, tail, i, mapped.baseSeconds());
+        }
+        records.flip();
+
+        int keep = mapped.lowerBound(firstSeconds);
+        int count = keep + tail.size();
+        ByteBuffer countBuffer = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(0, count);
+        try (FileChannel channel = FileChannel.open(pathOf(ticker), StandardOpenOption.WRITE)) {
+            long position = HEADER_BYTES + (long) keep * RECORD_BYTES;
+            while (records.hasRemaining()) {
+                position += channel.write(records, position);
+            }
+            channel.force(false);
+            // 레코드를 먼저 기록한 뒤 레코드 수를 갱신해야 읽는 쪽이 미완성 레코드를 보지 않음
+            channel.write(countBuffer, COUNT_OFFSET);
+            channel.force(false);
+        }
+        mappings.remove(ticker);
+        return true;
+    }
+
+    private Path pathOf(String ticker) {
+        return directory.resolve(ticker + FILE_SUFFIX);
+    }
+
+    private Mapped mapping(String ticker) {
+        Mapped cached = mappings.get(ticker);
+        if (cached != null) {
+            return cached;
+        }
+
+        Path path = pathOf(ticker);
+        if (!Files.exists(path)) {
+            return null;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            if (buffer.capacity() < HEADER_BYTES || buffer.getInt(0) != MAGIC || buffer.getShort(4) != VERSION
+                    || buffer.getShort(6) != RECORD_BYTES) {
+                log.warn("Ignoring invalid price archive file: {}", path);
+                return null;
+            }
+
+            int count = Math.min(buffer.getInt(COUNT_OFFSET), (buffer.capacity() - HEADER_BYTES) / RECORD_BYTES);
+            Mapped mapped = new Mapped(buffer, buffer.getLong(8), count);
+            mappings.put(ticker, mapped);
+            return mapped;
+        } catch (IOException e) {
+            log.warn("Failed to map price archive: {}, error: {}", path, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void putRecord(ByteBuffer buffer, PriceSeries series, int i, long baseSeconds) {
+        long delta = Math.floorDiv(series.time(i), 1000L) - baseSeconds;
+        if (delta < 0 || delta > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bar time out of archive range: " + series.time(i));
+        }
+        buffer.putInt((int) delta);
+        buffer.putInt(scale(series.open(i)));
+        buffer.putInt(scale(series.high(i)));
+        buffer.putInt(scale(series.low(i)));
+        buffer.putInt(scale(series.close(i)));
+        buffer.putLong(series.volume(i));
+    }
+
+    private static int scale(double price) {
+        return Math.toIntExact(Math.round(price * PRICE_SCALE));
+    }
+
+    private record Mapped(MappedByteBuffer buffer, long baseSeconds, int count) {
+
+        long timeSeconds(int i) {
+            return baseSeconds + buffer.getInt(HEADER_BYTES + i * RECORD_BYTES);
+        }
+
+        int lowerBound(long seconds) {
+            int lo = 0;
+            int hi = count;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (timeSeconds(mid) < seconds) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        int upperBound(long seconds) {
+            int lo = 0;
+            int hi = count;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (timeSeconds(mid) <= seconds) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+
+        void readInto(int i, PriceSeries.Builder builder) {
+            int offset = HEADER_BYTES + i * RECORD_BYTES;
+            builder.add(
+                    (baseSeconds + buffer.getInt(offset)) * 1000L,
+                    buffer.getInt(offset + 4) / PRICE_SCALE,
+                    buffer.getInt(offset + 8) / PRICE_SCALE,
+                    buffer.getInt(offset + 12) / PRICE_SCALE,
+                    buffer.getInt(offset + 16) / PRICE_SCALE,
+                    buffer.getLong(offset + 20)
+            );
+        }
+    }
+}
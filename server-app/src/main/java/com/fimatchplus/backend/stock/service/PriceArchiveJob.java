@@ -0,0 +1,137 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.domain.Stock;
+import com.fimatchplus.backend.stock.repository.StockPriceSeriesRepository;
+import com.fimatchplus.backend.stock.util.PriceSeries;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 일봉 아카이브 생성 / 일별 증분 반영 작업
+ * <ul>
+ *     <li>재구성: 전 종목(비활성 포함) 일봉 전체 이력을 stock_prices에서 읽어 종목별 파일로 재작성</li>
+ *     <li>증분: 장 마감 후 최근 N일 일봉을 한 번에 조회해 아카이브 마지막 봉 이후만 추가</li>
+ *     <li>아카이브는 노드 로컬 디스크에 있으므로 락 없이 각 노드에서 수행</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PriceArchiveJob {
+
+    private static final String DAILY_INTERVAL = "1d";
+    private static final LocalDateTime HISTORY_START = LocalDateTime.of(1990, 1, 1, 0, 0);
+
+    private final PriceArchive priceArchive;
+    private final StockPriceSeriesRepository seriesRepository;
+    private final StockMasterRegistry stockMasterRegistry;
+    private final boolean rebuildOnStartup;
+    private final int appendLookbackDays;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public PriceArchiveJob(
+            PriceArchive priceArchive,
+            StockPriceSeriesRepository seriesRepository,
+            StockMasterRegistry stockMasterRegistry,
+            @Value("${stock.archive.rebuild-on-startup:false}") boolean rebuildOnStartup,
+            @Value("${stock.archive.append-lookback-days:7}") int appendLookbackDays) {
+        this.priceArchive = priceArchive;
+        this.seriesRepository = seriesRepository;
+        this.stockMasterRegistry = stockMasterRegistry;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.appendLookbackDays = appendLookbackDays;
+    }
+
+    @Async("backgroundTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (priceArchive.isEnabled() && rebuildOnStartup) {
+            rebuild();
+        }
+    }
+
+    /**
+     * 전 종목 아카이브 재구성
+     */
+    public void rebuild() {
+        if (!running.compareAndSet(false, true)) {
+            log.info("Price archive job already running - rebuild skipped");
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            int written = 0;
+            int failed = 0;
+            for (Stock stock : stockMasterRegistry.allStocks()) {
+                if (export(stock.getTicker())) {
+                    written++;
+                } else {
+                    failed++;
+                }
+            }
+            log.info("Price archive rebuilt - written: {}, failed: {}, elapsed: {}ms",
+                    written, failed, System.currentTimeMillis() - start);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Scheduled(cron = "${stock.archive.append-cron:0 0 19 * * MON-FRI}", zone = "Asia/Seoul")
+    public void appendDaily() {
+        if (!priceArchive.isEnabled() || !running.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            long start = System.currentTimeMillis();
+            LocalDateTime from = LocalDate.now().minusDays(appendLookbackDays).atStartOfDay();
+            Map<String, PriceSeries> recent = seriesRepository.findAllSince(DAILY_INTERVAL, from);
+
+            int appended = 0;
+            int exported = 0;
+            for (Map.Entry<String, PriceSeries> entry : recent.entrySet()) {
+                String ticker = entry.getKey();
+                try {
+                    PriceSeries tail = priceArchive.lastTime(ticker)
+                            .map(last -> entry.getValue().between(last, Long.MAX_VALUE))
+                            .orElse(null);
+                    if (tail != null && priceArchive.append(ticker, tail)) {
+                        appended++;
+                    } else if (export(ticker)) {
+                        // 아카이브가 없는 종목 (신규 상장 등)은 전체 이력으로 생성
+                        exported++;
+                    }
+                } catch (Exception e) {
+                    log.warn("Failed to append price archive - ticker: {}, error: {}", ticker, e.getMessage());
+                }
+            }
+            log.info("Price archive appended - tickers: {}, appended: {}, exported: {}, elapsed: {}ms",
+                    recent.size(), appended, exported, System.currentTimeMillis() - start);
+        } catch (Exception e) {
+            log.error("Price archive daily append failed", e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private boolean export(String ticker) {
+        try {
+            PriceSeries series = seriesRepository.findSince(ticker, DAILY_INTERVAL, HISTORY_START);
+            priceArchive.write(ticker, series);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to export price archive - ticker: {}, error: {}", ticker, e.getMessage());
+            return false;
+        }
+    }
+}
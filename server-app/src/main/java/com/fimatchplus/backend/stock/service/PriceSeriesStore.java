@@ -0,0 +1,290 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.repository.StockPriceSeriesRepository;
+import com.fimatchplus.backend.stock.util.PriceSeries;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 종목/간격별 가격 시계열 인메모리 저장소
+ * <ul>
+ *     <li>최초 조회 시 stock_prices에서 lookback 기간만큼 적재 (동일 키 동시 적재는 한 번만 수행)</li>
+ *     <li>refresh 주기가 지난 엔트리는 마지막 봉 이후 행만 다시 읽어 병합</li>
+ *     <li>메모리 예산(max-bytes)을 넘으면 가장 오래 사용되지 않은 엔트리부터 제거 (LRU)</li>
+ *     <li>적재 범위보다 이전 일봉 구간은 {@link PriceArchive}에서 읽어 메모리 구간과 이어 붙임</li>
+ *     <li>그 밖에 적재 범위를 벗어난 구간은 빈 Optional - 호출 측에서 DB 조회</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class PriceSeriesStore {
+
+    private static final String MINUTE_INTERVAL = "1m";
+    private static final String DAILY_INTERVAL = "1d";
+    // epoch millis 1 + OHLC 4 + 거래량 1 (각 8바이트)
+    private static final long BYTES_PER_BAR = 48L;
+    private static final long ENTRY_OVERHEAD_BYTES = 256L;
+
+    private final StockPriceSeriesRepository seriesRepository;
+    private final PriceArchive priceArchive;
+    private final boolean enabled;
+    private final long maxBytes;
+    private final int dailyLookbackDays;
+    private final int minuteLookbackDays;
+    private final long refreshIntervalMillis;
+
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private final ConcurrentHashMap<String, CompletableFuture<Entry>> inFlight = new ConcurrentHashMap<>();
+    private long totalBytes;
+    // invalidate 횟수 - 무효화 이전에 시작한 적재 결과는 저장하지 않음
+    private long generation;
+
+    public PriceSeriesStore(
+            StockPriceSeriesRepository seriesRepository,
+            PriceArchive priceArchive,
+            @Value("${stock.price-store.enabled:true}") boolean enabled,
+            @Value("${stock.price-store.max-bytes:67108864}") long maxBytes,
+            @Value("${stock.price-store.daily-lookback-days:400}") int dailyLookbackDays,
+            @Value("${stock.price-store.minute-lookback-days:7}") int minuteLookbackDays,
+            @Value("${stock.price-store.refresh-interval-ms:60000}") long refreshIntervalMillis) {
+        this.seriesRepository = seriesRepository;
+        this.priceArchive = priceArchive;
+        this.enabled = enabled;
+        this.maxBytes = maxBytes;
+        this.dailyLookbackDays = dailyLookbackDays;
+        this.minuteLookbackDays = minuteLookbackDays;
+        this.refreshIntervalMillis = refreshIntervalMillis;
+    }
+
+    /**
+     * [from, to] 구간 시계열 조회
+     *
+     * @return 시간 오름차순 시계열, 저장소가 꺼져 있거나 적재 범위를 벗어나면 빈 Optional
+     */
+    public Optional<PriceSeries> range(String ticker, String intervalUnit, LocalDateTime from, LocalDateTime to) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        Entry entry;
+        try {
+            entry = current(ticker, intervalUnit);
+        } catch (Exception e) {
+            log.warn("Failed to load price series - ticker: {}, interval: {}, error: {}", ticker, intervalUnit, e.getMessage());
+            return Optional.empty();
+        }
+
+        long fromMillis = PriceSeries.toEpochMillis(from);
+        long toMillis = PriceSeries.toEpochMillis(to);
+        PriceSeries recent = entry.series().between(fromMillis, toMillis);
+        if (fromMillis >= entry.coverageStart()) {
+            return Optional.of(recent);
+        }
+
+        if (!DAILY_INTERVAL.equals(intervalUnit)) {
+            return Optional.empty();
+        }
+        return priceArchive.read(ticker, fromMillis, Math.min(toMillis, entry.coverageStart() - 1))
+                .map(archived -> archived.merge(recent));
+    }
+
+    /**
+     * 시계열 데이터 버전 (봉 개수 + 마지막 봉 시각/값) - 조건부 조회 ETag 계산용
+     *
+     * @return 저장소가 꺼져 있거나 적재에 실패하면 빈 Optional
+     */
+    public Optional<String> version(String ticker, String intervalUnit) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+
+        try {
+            PriceSeries series = current(ticker, intervalUnit).series();
+            if (series.isEmpty()) {
+                return Optional.of("0");
+            }
+            int last = series.size() - 1;
+            return Optional.of(series.size() + "-" + series.lastTime() + "-" + series.open(last) + "-" + series.high(last)
+                    + "-" + series.low(last) + "-" + series.close(last) + "-" + series.volume(last));
+        } catch (Exception e) {
+            log.warn("Failed to resolve price series version - ticker: {}, interval: {}, error: {}", ticker, intervalUnit, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 실시간 집계로 완성된 봉을 적재된 엔트리에 바로 이어 붙임 (DB 왕복 없이 조회에 반영)
+     * 적재되지 않은 종목/간격은 무시 - 다음 조회 시 DB에서 적재
+     *
+     * @param bars 시간 오름차순 봉 (마지막 봉 이후 또는 같은 시각부터)
+     */
+    public synchronized void append(String ticker, String intervalUnit, PriceSeries bars) {
+        if (!enabled || bars.isEmpty()) {
+            return;
+        }
+
+        String key = ticker + ":" + intervalUnit;
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return;
+        }
+
+        PriceSeries merged = entry.series().merge(bars);
+        store(key, new Entry(merged, entry.coverageStart(), entry.refreshedAt(),
+                ENTRY_OVERHEAD_BYTES + merged.size() * BYTES_PER_BAR));
+    }
+
+    /**
+     * 종목의 모든 간격 엔트리 제거 (가격 데이터 재적재 등)
+     */
+    public synchronized void invalidate(String ticker) {
+        generation++;
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<String, Entry> e = iterator.next();
+            if (e.getKey().startsWith(ticker + ":")) {
+                totalBytes -= e.getValue().bytes();
+                iterator.remove();
+            }
+        }
+    }
+
+    public synchronized long usedBytes() {
+        return totalBytes;
+    }
+
+    private Entry current(String ticker, String intervalUnit) {
+        String key = ticker + ":" + intervalUnit;
+        Entry entry = lookup(key);
+        if (entry == null) {
+            return singleFlight(key, null, () -> load(ticker, intervalUnit));
+        }
+        if (System.currentTimeMillis() - entry.refreshedAt() >= refreshIntervalMillis) {
+            return singleFlight(key, entry, () -> refreshTail(ticker, intervalUnit, entry));
+        }
+        return entry;
+    }
+
+    private Entry load(String ticker, String intervalUnit) {
+        long start = System.nanoTime();
+        int lookbackDays = MINUTE_INTERVAL.equals(intervalUnit) ? minuteLookbackDays : dailyLookbackDays;
+        LocalDateTime from = LocalDateTime.now().toLocalDate().minusDays(lookbackDays).atStartOfDay();
+
+        PriceSeries series = seriesRepository.findSince(ticker, intervalUnit, from);
+        log.debug("Loaded price series - ticker: {}, interval: {}, bars: {}, elapsed: {}ms",
+                ticker, intervalUnit, series.size(), (System.nanoTime() - start) / 1_000_000);
+        return Entry.of(series, PriceSeries.toEpochMillis(from));
+    }
+
+    /**
+     * 마지막 봉 시각 이후(포함) 행만 조회해 병합 (진행 중인 마지막 봉도 갱신)
+     */
+    private Entry refreshTail(String ticker, String intervalUnit, Entry entry) {
+        PriceSeries series = entry.series();
+        if (series.isEmpty()) {
+            return load(ticker, intervalUnit);
+        }
+
+        PriceSeries tail = seriesRepository.findSince(ticker, intervalUnit, PriceSeries.toLocalDateTime(series.lastTime()));
+        return Entry.of(series.merge(tail), entry.coverageStart());
+    }
+
+    /**
+     * 키별 적재를 한 번만 수행하고 결과를 저장
+     *
+     * @param base 적재의 기준이 된 엔트리 (최초 적재면 null)
+     */
+    private Entry singleFlight(String key, Entry base, Supplier<Entry> loader) {
+        CompletableFuture<Entry> mine = new CompletableFuture<>();
+        CompletableFuture<Entry> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                throw e.getCause() instanceof RuntimeException runtime ? runtime : e;
+            }
+        }
+
+        try {
+            long startGeneration = generation();
+            Entry loaded = storeLoaded(key, base, startGeneration, loader.get());
+            mine.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    private synchronized Entry lookup(String key) {
+        return entries.get(key);
+    }
+
+    private synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * 적재 결과를 현재 엔트리와 맞춰 저장
+     * <ul>
+     *     <li>적재 중 invalidate되었으면 저장하지 않음 (결과는 이번 호출에만 사용)</li>
+     *     <li>적재 중 append로 기준 엔트리가 바뀌었으면 적재 결과 마지막 봉 이후의 봉을 다시 이어 붙임</li>
+     * </ul>
+     */
+    private synchronized Entry storeLoaded(String key, Entry base, long startGeneration, Entry loaded) {
+        if (startGeneration != generation) {
+            return loaded;
+        }
+
+        Entry current = entries.get(key);
+        if (current != null && current != base) {
+            PriceSeries series = loaded.series();
+            PriceSeries appended = series.isEmpty()
+                    ? current.series()
+                    : current.series().between(series.lastTime() + 1, Long.MAX_VALUE);
+            loaded = Entry.of(series.merge(appended), loaded.coverageStart());
+        }
+        store(key, loaded);
+        return loaded;
+    }
+
+    private synchronized void store(String key, Entry entry) {
+        Entry previous = entries.put(key, entry);
+        if (previous != null) {
+            totalBytes -= previous.bytes();
+        }
+        totalBytes += entry.bytes();
+
+        Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && entries.size() > 1 && iterator.hasNext()) {
+            Map.Entry<String, Entry> eldest = iterator.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            totalBytes -= eldest.getValue().bytes();
+            iterator.remove();
+            log.debug("Evicted price series: {}", eldest.getKey());
+        }
+    }
+
+    private record Entry(PriceSeries series, long coverageStart, long refreshedAt, long bytes) {
+
+        static Entry of(PriceSeries series, long coverageStart) {
+            return new Entry(series, coverageStart, System.currentTimeMillis(),
+                    ENTRY_OVERHEAD_BYTES + series.size() * BYTES_PER_BAR);
+        }
+    }
+}
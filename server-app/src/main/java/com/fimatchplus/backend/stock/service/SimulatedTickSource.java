@@ -0,0 +1,100 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.domain.StockPrice;
+import com.fimatchplus.backend.stock.repository.StockPriceRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+
+/**
+ * 로컬 개발용 체결 틱 시뮬레이터 (KIS 실시간 체결 구독 대체)
+ * <ul>
+ *     <li>설정한 종목마다 최근 일봉 종가에서 시작하는 랜덤 워크 틱을 주기적으로 생성</li>
+ *     <li>호가 단위를 무시한 합성 데이터이므로 {@link #synthetic()} = true</li>
+ *     <li>stock.ingest.enabled=true, stock.ingest.source=simulator일 때만 빈으로 등록 (운영에서는 스케줄러 작업도 생성하지 않음)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${stock.ingest.enabled:false} and '${stock.ingest.source:simulator}' == 'simulator'")
+public class SimulatedTickSource implements TickSource {
+
+    private static final double DEFAULT_START_PRICE = 10_000.0;
+    private static final double MAX_STEP_RATE = 0.002;
+
+    private final StockPriceRepository stockPriceRepository;
+    private final List<String> tickers;
+    private final Map<String, Double> lastPrices = new ConcurrentHashMap<>();
+
+    private volatile Consumer<StockTick> consumer;
+
+    public SimulatedTickSource(
+            StockPriceRepository stockPriceRepository,
+            @Value("${stock.ingest.simulator.tickers:005930,000660,035420}") List<String> tickers) {
+        this.stockPriceRepository = stockPriceRepository;
+        this.tickers = tickers;
+    }
+
+    @Override
+    public String name() {
+        return "simulator";
+    }
+
+    @Override
+    public boolean synthetic() {
+        return true;
+    }
+
+    @Override
+    public void start(Consumer<StockTick> tickConsumer) {
+        for (String ticker : tickers) {
+            lastPrices.computeIfAbsent(ticker, this::startPrice);
+        }
+        this.consumer = tickConsumer;
+        log.info("Tick simulator started - tickers: {}", tickers);
+    }
+
+    @Override
+    public void stop() {
+        this.consumer = null;
+    }
+
+    @Scheduled(fixedDelayString = "${stock.ingest.simulator.tick-interval-ms:200}")
+    public void emitTicks() {
+        Consumer<StockTick> target = consumer;
+        if (target == null) {
+            return;
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long now = System.currentTimeMillis();
+        for (String ticker : tickers) {
+            double price = lastPrices.compute(ticker, (key, last) -> {
+                double base = last != null ? last : DEFAULT_START_PRICE;
+                double next = base * (1 + random.nextDouble(-MAX_STEP_RATE, MAX_STEP_RATE));
+                return Math.max(1.0, Math.round(next));
+            });
+            target.accept(new StockTick(ticker, price, random.nextLong(1, 500), now));
+        }
+    }
+
+    private double startPrice(String ticker) {
+        try {
+            StockPrice latest = stockPriceRepository.findFirstByStockCodeAndIntervalUnitOrderByDatetimeDesc(ticker, "1d");
+            if (latest != null && latest.getClosePrice() != null) {
+                return latest.getClosePrice().doubleValue();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to load start price for simulator - ticker: {}, error: {}", ticker, e.getMessage());
+        }
+        return DEFAULT_START_PRICE;
+    }
+}
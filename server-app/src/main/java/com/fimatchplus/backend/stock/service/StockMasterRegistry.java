@@ -0,0 +1,220 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.domain.Stock;
+import com.fimatchplus.backend.stock.event.StockMasterChangedEvent;
+import com.fimatchplus.backend.stock.repository.StockRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 종목 마스터 상주 레지스트리
+ * <ul>
+ *     <li>stocks 테이블 전체를 불변 스냅샷으로 메모리에 보관 (티커 / 거래소 / 업종 코드 인덱스)</li>
+ *     <li>주기적으로 다시 읽어 행 단위 비교 후 변경이 있을 때만 새 스냅샷으로 교체 (copy-on-write)</li>
+ *     <li>교체 시 {@link StockMasterChangedEvent} 발행</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class StockMasterRegistry {
+
+    private final StockRepository stockRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private volatile Snapshot snapshot;
+
+    public StockMasterRegistry(StockRepository stockRepository, ApplicationEventPublisher eventPublisher) {
+        this.stockRepository = stockRepository;
+        this.eventPublisher = eventPublisher;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        currentSnapshot();
+    }
+
+    @Scheduled(initialDelayString = "${stock.master.refresh-interval-ms:600000}", fixedDelayString = "${stock.master.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            reload();
+        } catch (Exception e) {
+            log.warn("Failed to refresh stock master registry: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 티커로 종목 조회
+     */
+    public Optional<Stock> find(String ticker) {
+        return Optional.ofNullable(currentSnapshot().byTicker().get(ticker));
+    }
+
+    /**
+     * 티커로 종목 조회
+     *
+     * @throws RuntimeException 종목을 찾을 수 없는 경우
+     */
+    public Stock get(String ticker) {
+        return find(ticker)
+                .orElseThrow(() -> new RuntimeException("종목을 찾을 수 없습니다: " + ticker));
+    }
+
+    /**
+     * 여러 티커로 종목 조회 (존재하는 종목만, 입력 순서 유지)
+     */
+    public List<Stock> findAll(Collection<String> tickers) {
+        Map<String, Stock> byTicker = currentSnapshot().byTicker();
+        List<Stock> stocks = new ArrayList<>(tickers.size());
+        Set<String> seen = new HashSet<>();
+        for (String ticker : tickers) {
+            Stock stock = byTicker.get(ticker);
+            if (stock != null && seen.add(ticker)) {
+                stocks.add(stock);
+            }
+        }
+        return stocks;
+    }
+
+    public List<Stock> findByExchange(String exchange) {
+        return currentSnapshot().byExchange().getOrDefault(exchange, List.of());
+    }
+
+    public List<Stock> findByIndustryCode(Integer industryCode) {
+        return currentSnapshot().byIndustryCode().getOrDefault(industryCode, List.of());
+    }
+
+    public List<Stock> activeStocks() {
+        return currentSnapshot().active();
+    }
+
+    /**
+     * 비활성(상장폐지 등) 종목 포함 전체 종목
+     */
+    public Collection<Stock> allStocks() {
+        return currentSnapshot().byTicker().values();
+    }
+
+    public long version() {
+        return currentSnapshot().version();
+    }
+
+    /**
+     * 아직 적재 전이면 (기동 직후 요청 등) 호출 스레드에서 적재
+     */
+    private Snapshot currentSnapshot() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (snapshot == null) {
+                reload();
+            }
+            return snapshot;
+        }
+    }
+
+    private synchronized void reload() {
+        long start = System.nanoTime();
+        List<Stock> stocks = stockRepository.findAll();
+
+        Map<String, Integer> fingerprints = new HashMap<>(stocks.size() * 2);
+        for (Stock stock : stocks) {
+            fingerprints.put(stock.getTicker(), fingerprint(stock));
+        }
+
+        Snapshot previous = snapshot;
+        Map<String, Integer> previousFingerprints = previous != null ? previous.fingerprints() : Map.of();
+        if (previous != null && previousFingerprints.equals(fingerprints)) {
+            log.debug("Stock master unchanged - stocks: {}", stocks.size());
+            return;
+        }
+
+        Set<String> added = new HashSet<>();
+        Set<String> updated = new HashSet<>();
+        for (Map.Entry<String, Integer> entry : fingerprints.entrySet()) {
+            Integer before = previousFingerprints.get(entry.getKey());
+            if (before == null) {
+                added.add(entry.getKey());
+            } else if (!before.equals(entry.getValue())) {
+                updated.add(entry.getKey());
+            }
+        }
+        Set<String> removed = new HashSet<>(previousFingerprints.keySet());
+        removed.removeAll(fingerprints.keySet());
+
+        long version = previous != null ? previous.version() + 1 : 1;
+        snapshot = Snapshot.of(stocks, fingerprints, version);
+
+        log.info("Stock master loaded - version: {}, stocks: {}, added: {}, updated: {}, removed: {}, elapsed: {}ms",
+                version, stocks.size(), added.size(), updated.size(), removed.size(), (System.nanoTime() - start) / 1_000_000);
+
+        eventPublisher.publishEvent(new StockMasterChangedEvent(version, Set.copyOf(added), Set.copyOf(updated), Set.copyOf(removed)));
+    }
+
+    private static int fingerprint(Stock stock) {
+        return Objects.hash(
+                stock.getId(), stock.getName(), stock.getEngName(), stock.getIsin(), stock.getRegion(),
+                stock.getCurrency(), stock.getMajorCode(), stock.getMediumCode(), stock.getMinorCode(),
+                stock.getExchange(), stock.isActive(), stock.getIndustryCode(), stock.getIndustryName(), stock.getType()
+        );
+    }
+
+    private record Snapshot(
+            Map<String, Stock> byTicker,
+            Map<String, List<Stock>> byExchange,
+            Map<Integer, List<Stock>> byIndustryCode,
+            List<Stock> active,
+            Map<String, Integer> fingerprints,
+            long version
+    ) {
+
+        static Snapshot of(List<Stock> stocks, Map<String, Integer> fingerprints, long version) {
+            Map<String, Stock> byTicker = new HashMap<>(stocks.size() * 2);
+            Map<String, List<Stock>> byExchange = new HashMap<>();
+            Map<Integer, List<Stock>> byIndustryCode = new HashMap<>();
+            List<Stock> active = new ArrayList<>();
+
+            for (Stock stock : stocks) {
+                byTicker.put(stock.getTicker(), stock);
+                if (stock.getExchange() != null) {
+                    byExchange.computeIfAbsent(stock.getExchange(), key -> new ArrayList<>()).add(stock);
+                }
+                if (stock.getIndustryCode() != null) {
+                    byIndustryCode.computeIfAbsent(stock.getIndustryCode(), key -> new ArrayList<>()).add(stock);
+                }
+                if (stock.isActive()) {
+                    active.add(stock);
+                }
+            }
+
+            Map<String, List<Stock>> exchangeIndex = new HashMap<>();
+            byExchange.forEach((key, value) -> exchangeIndex.put(key, List.copyOf(value)));
+            Map<Integer, List<Stock>> industryIndex = new HashMap<>();
+            byIndustryCode.forEach((key, value) -> industryIndex.put(key, List.copyOf(value)));
+
+            return new Snapshot(
+                    Map.copyOf(byTicker),
+                    Map.copyOf(exchangeIndex),
+                    Map.copyOf(industryIndex),
+                    List.copyOf(active),
+                    Map.copyOf(fingerprints),
+                    version
+            );
+        }
+    }
+}
@@ -0,0 +1,301 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.repository.StockPriceCopyRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+/**
+ * stock_prices 대량 적재 (이력 백필용)
+ * <ul>
+ *     <li>CSV를 한 줄씩 읽어 COPY BINARY로 바로 전송 - 파일 크기와 무관하게 메모리 사용량 일정</li>
+ *     <li>batch-rows 단위로 커밋하므로 실패 시 해당 배치만 롤백되고, 같은 파일을 다시 적재해도 upsert로 중복 없음</li>
+ *     <li>change_amount는 stock_prices의 NOT NULL 컬럼이라 필수 - 빠진 행이 하나라도 있으면 COPY 전에 파일 전체를 거부</li>
+ *     <li>종목별 적재 행 수를 집계해 진행 상황과 결과를 로그로 보고</li>
+ *     <li>stock.bulk-load.dir이 설정되면 기동 시 *.csv를 적재하고 완료된 파일은 .done으로 이름 변경</li>
+ * </ul>
+ * CSV 형식: stock_code,datetime,interval_unit,open,high,low,close,volume,change_amount
+ * (change_rate는 DB에서 계산되므로 이후 컬럼은 무시)
+ * (헤더 행은 선택, datetime은 yyyy-MM-dd 또는 yyyy-MM-dd HH:mm:ss)
+ */
+@Slf4j
+@Service
+public class StockPriceBulkLoader {
+
+    private static final String CSV_SEPARATOR = ",";
+    private static final int CSV_COLUMNS = 9;
+    private static final String DONE_SUFFIX = ".done";
+
+    private final StockPriceCopyRepository copyRepository;
+    private final PriceSeriesStore priceSeriesStore;
+    private final String loadDir;
+    private final int batchRows;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public StockPriceBulkLoader(
+            StockPriceCopyRepository copyRepository,
+            PriceSeriesStore priceSeriesStore,
+            @Value("${stock.bulk-load.dir:}") String loadDir,
+            @Value("${stock.bulk-load.batch-rows:500000}") int batchRows) {
+        this.copyRepository = copyRepository;
+        this.priceSeriesStore = priceSeriesStore;
+        this.loadDir = loadDir;
+        this.batchRows = Math.max(1, batchRows);
+    }
+
+    /**
+     * 적재 결과
+     *
+     * @param rowsPerTicker 종목별 적재 요청 행 수
+     */
+    public record Report(
+            String source,
+            long rowsRead,
+            long rowsSkipped,
+            long inserted,
+            long updated,
+            int batches,
+            Map<String, Long> rowsPerTicker,
+            long elapsedMillis
+    ) {}
+
+    @Async("backgroundTaskExecutor")
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadConfiguredDirectory() {
+        if (loadDir == null || loadDir.isBlank()) {
+            return;
+        }
+
+        Path dir = Path.of(loadDir);
+        if (!Files.isDirectory(dir)) {
+            log.warn("Bulk load directory not found: {}", dir);
+            return;
+        }
+
+        List<Path> files;
+        try (Stream<Path> listing = Files.list(dir)) {
+            files = listing.filter(path -> path.getFileName().toString().endsWith(".csv")).sorted().toList();
+        } catch (IOException e) {
+            log.warn("Failed to list bulk load directory: {}, error: {}", dir, e.getMessage());
+            return;
+        }
+
+        for (Path file : files) {
+            try {
+                loadCsv(file);
+                Files.move(file, file.resolveSibling(file.getFileName() + DONE_SUFFIX), StandardCopyOption.ATOMIC_MOVE);
+            } catch (Exception e) {
+                log.error("가격 이력 대량 적재 실패 - file: {}, error: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * CSV 파일 적재
+     *
+     * @throws IllegalArgumentException change_amount가 없는 행이 있으면 적재 전에 발생
+     */
+    public Report loadCsv(Path file) throws IOException {
+        verifyChangeAmount(file);
+        try (InputStream in = Files.newInputStream(file)) {
+            return loadCsv(in, file.getFileName().toString());
+        }
+    }
+
+    /**
+     * 모든 데이터 행에 change_amount가 있는지 확인 (COPY 시작 전 파일 단위 거부)
+     */
+    private static void verifyChangeAmount(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            long lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || (lineNumber == 1 && line.startsWith("stock_code"))) {
+                    continue;
+                }
+                String[] columns = line.split(CSV_SEPARATOR, -1);
+                if (columns.length < CSV_COLUMNS || columns[CSV_COLUMNS - 1].isBlank()) {
+                    throw new IllegalArgumentException(
+                            "change_amount 누락으로 적재 거부 - file: " + file.getFileName() + ", line: " + lineNumber);
+                }
+            }
+        }
+    }
+
+    /**
+     * CSV 스트림 적재 (loadCsv(Path)에서 change_amount 검증 후 호출)
+     *
+     * @param source 로그/결과에 표시할 이름
+     */
+    private Report loadCsv(InputStream in, String source) {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("가격 이력 대량 적재가 이미 진행 중입니다");
+        }
+
+        long start = System.currentTimeMillis();
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), 1 << 16)) {
+            CsvRowIterator rows = new CsvRowIterator(reader);
+            long inserted = 0;
+            long updated = 0;
+            int batches = 0;
+
+            while (rows.hasNext()) {
+                StockPriceCopyRepository.BatchResult result = copyRepository.copyBatch(rows, batchRows);
+                if (result.copied() == 0) {
+                    break;
+                }
+                batches++;
+                inserted += result.inserted();
+                updated += result.updated();
+                log.info("Bulk load progress - source: {}, batch: {}, rows: {}, inserted: {}, updated: {}, tickers: {}, elapsed: {}ms",
+                        source, batches, rows.rowsRead(), inserted, updated, rows.rowsPerTicker().size(),
+                        System.currentTimeMillis() - start);
+            }
+
+            rows.rowsPerTicker().keySet().forEach(priceSeriesStore::invalidate);
+
+            Report report = new Report(source, rows.rowsRead(), rows.rowsSkipped(), inserted, updated, batches,
+                    rows.rowsPerTicker(), System.currentTimeMillis() - start);
+            log.info("Bulk load completed - source: {}, rows: {}, skipped: {}, inserted: {}, updated: {}, tickers: {}, elapsed: {}ms",
+                    source, report.rowsRead(), report.rowsSkipped(), inserted, updated, report.rowsPerTicker().size(),
+                    report.elapsedMillis());
+            report.rowsPerTicker().forEach((ticker, count) -> log.debug("Bulk load ticker - {}: {} rows", ticker, count));
+            return report;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    /**
+     * CSV 한 줄씩 읽어 행으로 변환 (형식 오류 행은 건너뛰고 집계)
+     */
+    private static final class CsvRowIterator implements Iterator<StockPriceCopyRepository.Row> {
+
+        private final BufferedReader reader;
+        private final Map<String, Long> rowsPerTicker = new TreeMap<>();
+        private StockPriceCopyRepository.Row next;
+        private long lineNumber;
+        private long rowsRead;
+        private long rowsSkipped;
+        private boolean finished;
+
+        CsvRowIterator(BufferedReader reader) {
+            this.reader = reader;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next != null) {
+                return true;
+            }
+            if (finished) {
+                return false;
+            }
+            next = readNext();
+            return next != null;
+        }
+
+        @Override
+        public StockPriceCopyRepository.Row next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            StockPriceCopyRepository.Row row = next;
+            next = null;
+            rowsRead++;
+            rowsPerTicker.merge(row.stockCode(), 1L, Long::sum);
+            return row;
+        }
+
+        long rowsRead() {
+            return rowsRead;
+        }
+
+        long rowsSkipped() {
+            return rowsSkipped;
+        }
+
+        Map<String, Long> rowsPerTicker() {
+            return rowsPerTicker;
+        }
+
+        private StockPriceCopyRepository.Row readNext() {
+            try {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (line.isBlank() || (lineNumber == 1 && line.startsWith("stock_code"))) {
+                        continue;
+                    }
+                    StockPriceCopyRepository.Row row = parse(line);
+                    if (row != null) {
+                        return row;
+                    }
+                    rowsSkipped++;
+                }
+                finished = true;
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private StockPriceCopyRepository.Row parse(String line) {
+            String[] columns = line.split(CSV_SEPARATOR, -1);
+            if (columns.length < CSV_COLUMNS) {
+                log.warn("Bulk load CSV 형식 오류 - line {}: 컬럼 수 {}", lineNumber, columns.length);
+                return null;
+            }
+
+            try {
+                return new StockPriceCopyRepository.Row(
+                        columns[0].strip(),
+                        parseDateTime(columns[1].strip()),
+                        columns[2].strip(),
+                        Double.parseDouble(columns[3].strip()),
+                        Double.parseDouble(columns[4].strip()),
+                        Double.parseDouble(columns[5].strip()),
+                        Double.parseDouble(columns[6].strip()),
+                        Long.parseLong(columns[7].strip()),
+                        Double.parseDouble(columns[8].strip())
+                );
+            } catch (NumberFormatException | DateTimeParseException e) {
+                log.warn("Bulk load CSV 값 오류 - line {}: {}", lineNumber, e.getMessage());
+                return null;
+            }
+        }
+
+        private static LocalDateTime parseDateTime(String value) {
+            if (value.length() == 10) {
+                return LocalDate.parse(value).atStartOfDay();
+            }
+            return LocalDateTime.parse(value.replace(' ', 'T'));
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fimatchplus.backend.common.exception.BusinessException;
+import com.fimatchplus.backend.stock.domain.PriceChangeSign;
+import com.fimatchplus.backend.stock.dto.StockPriceStreamEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 실시간 시세 푸시 허브 (SSE)
+ * <ul>
+ *     <li>클라이언트는 종목 집합을 구독하고, 종목(토픽)별로 구독자 집합을 관리</li>
+ *     <li>시세 갱신은 종목별 최신값만 남기고(conflation) flush 주기마다 한 번만 전송</li>
+ *     <li>이벤트는 종목당 한 번만 직렬화하여 모든 구독자에게 같은 페이로드를 전송</li>
+ *     <li>전송은 스케줄러 스레드가 아닌 전용 스레드 풀(streamSendExecutor)에서 구독자별 순서대로 수행 - 느린 클라이언트가 flush를 막지 않음</li>
+ *     <li>구독자별 대기 전송이 max-pending-sends를 넘으면 밀린 연결로 보고 종료 후 구독 해제</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class StockPriceStreamHub {
+
+    private static final String PRICE_EVENT = "price";
+
+    private final ObjectMapper objectMapper;
+    private final Executor sendExecutor;
+    private final long emitterTimeoutMillis;
+    private final int maxTickersPerSubscription;
+    private final int maxPendingSends;
+
+    private final ConcurrentHashMap<String, Set<Subscriber>> subscribersByTicker = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, StockPriceStreamEvent> latestEvents = new ConcurrentHashMap<>();
+    private final Set<String> dirtyTickers = ConcurrentHashMap.newKeySet();
+    private final Set<ResponseBodyEmitter.DataWithMediaType> heartbeat = SseEmitter.event().comment("ping").build();
+
+    public StockPriceStreamHub(
+            ObjectMapper objectMapper,
+            @Qualifier("streamSendExecutor") Executor sendExecutor,
+            @Value("${stock.stream.emitter-timeout-ms:1800000}") long emitterTimeoutMillis,
+            @Value("${stock.stream.max-tickers:50}") int maxTickersPerSubscription,
+            @Value("${stock.stream.max-pending-sends:100}") int maxPendingSends) {
+        this.objectMapper = objectMapper;
+        this.sendExecutor = sendExecutor;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+        this.maxTickersPerSubscription = maxTickersPerSubscription;
+        this.maxPendingSends = Math.max(1, maxPendingSends);
+    }
+
+    /**
+     * 종목 집합 구독, 이미 알고 있는 최신 시세는 즉시 전송
+     */
+    public SseEmitter subscribe(Collection<String> tickers) {
+        Set<String> topics = new LinkedHashSet<>(tickers);
+        if (topics.isEmpty()) {
+            throw new BusinessException("구독할 종목 코드가 없습니다.");
+        }
+        if (topics.size() > maxTickersPerSubscription) {
+            throw new BusinessException("한 번에 최대 " + maxTickersPerSubscription + "개 종목까지만 구독 가능합니다. 현재: " + topics.size());
+        }
+
+        SseEmitter emitter = new SseEmitter(emitterTimeoutMillis);
+        Subscriber subscriber = new Subscriber(emitter, topics);
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(e -> unsubscribe(subscriber));
+
+        for (String ticker : topics) {
+            subscribersByTicker.computeIfAbsent(ticker, key -> ConcurrentHashMap.newKeySet()).add(subscriber);
+        }
+        log.debug("Stream subscribed - tickers: {}, topics: {}", topics, subscribersByTicker.size());
+
+        for (String ticker : topics) {
+            StockPriceStreamEvent latest = latestEvents.get(ticker);
+            if (latest != null) {
+                Set<ResponseBodyEmitter.DataWithMediaType> payload = serialize(latest);
+                if (payload != null && !subscriber.offer(payload)) {
+                    break;
+                }
+            }
+        }
+
+        return emitter;
+    }
+
+    /**
+     * 시세 갱신 등록 (구독자가 없는 종목은 무시)
+     */
+    public void publish(StockPriceStreamEvent event) {
+        if (!subscribersByTicker.containsKey(event.ticker())) {
+            return;
+        }
+        StockPriceStreamEvent previous = latestEvents.put(event.ticker(), event);
+        if (previous != null && isSamePrice(previous, event)) {
+            return;
+        }
+        dirtyTickers.add(event.ticker());
+    }
+
+    /**
+     * 현재가만 갱신 (등락 정보는 직전 이벤트 기준 유지)
+     */
+    public void publishPrice(String ticker, double price) {
+        Instant now = Instant.now();
+        StockPriceStreamEvent previous = latestEvents.get(ticker);
+        publish(previous != null
+                ? previous.withCurrentPrice(price, now)
+                : new StockPriceStreamEvent(ticker, price, 0.0, 0.0, PriceChangeSign.FLAT, now));
+    }
+
+    /**
+     * 구독자가 한 명 이상인 종목 목록
+     */
+    public Set<String> subscribedTickers() {
+        return subscribersByTicker.keySet();
+    }
+
+    public boolean hasSnapshot(String ticker) {
+        return latestEvents.containsKey(ticker);
+    }
+
+    /**
+     * 변경된 종목만 종목당 한 번 직렬화하여 구독자별 전송 큐에 등록 (실제 전송은 streamSendExecutor)
+     */
+    @Scheduled(fixedDelayString = "${stock.stream.flush-interval-ms:1000}")
+    public void flush() {
+        if (dirtyTickers.isEmpty()) {
+            return;
+        }
+
+        int queued = 0;
+        Iterator<String> iterator = dirtyTickers.iterator();
+        while (iterator.hasNext()) {
+            String ticker = iterator.next();
+            iterator.remove();
+
+            Set<Subscriber> subscribers = subscribersByTicker.get(ticker);
+            StockPriceStreamEvent event = latestEvents.get(ticker);
+            if (subscribers == null || subscribers.isEmpty() || event == null) {
+                continue;
+            }
+
+            Set<ResponseBodyEmitter.DataWithMediaType> payload = serialize(event);
+            if (payload == null) {
+                continue;
+            }
+
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.offer(payload)) {
+                    queued++;
+                }
+            }
+        }
+
+        log.debug("Stream flush - messages: {}, topics: {}", queued, subscribersByTicker.size());
+    }
+
+    /**
+     * 프록시 유휴 타임아웃 방지 및 끊어진 연결 정리
+     */
+    @Scheduled(fixedDelayString = "${stock.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        Set<Subscriber> all = new LinkedHashSet<>();
+        subscribersByTicker.values().forEach(all::addAll);
+
+        for (Subscriber subscriber : all) {
+            subscriber.offer(heartbeat);
+        }
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        for (String ticker : subscriber.tickers()) {
+            subscribersByTicker.computeIfPresent(ticker, (key, subscribers) -> {
+                subscribers.remove(subscriber);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            if (!subscribersByTicker.containsKey(ticker)) {
+                latestEvents.remove(ticker);
+                dirtyTickers.remove(ticker);
+            }
+        }
+    }
+
+    private boolean isSamePrice(StockPriceStreamEvent previous, StockPriceStreamEvent current) {
+        return previous.currentPrice() == current.currentPrice()
+                && previous.dailyRate() == current.dailyRate()
+                && previous.dailyChange() == current.dailyChange()
+                && previous.sign() == current.sign();
+    }
+
+    private Set<ResponseBodyEmitter.DataWithMediaType> serialize(StockPriceStreamEvent event) {
+        try {
+            return SseEmitter.event()
+                    .name(PRICE_EVENT)
+                    .data(objectMapper.writeValueAsString(event))
+                    .build();
+        } catch (Exception e) {
+            log.warn("Failed to serialize stream event for ticker: {}, error: {}", event.ticker(), e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 구독 연결 (동일성 비교로 구독자 집합에서 식별)
+     * 전송 대기 큐를 한 번에 한 스레드만 비우므로 구독자별 전송 순서가 유지됨
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Set<String> tickers;
+        private final ConcurrentLinkedQueue<Set<ResponseBodyEmitter.DataWithMediaType>> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pendingCount = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, Set<String> tickers) {
+            this.emitter = emitter;
+            this.tickers = tickers;
+        }
+
+        Set<String> tickers() {
+            return tickers;
+        }
+
+        /**
+         * 전송 큐에 등록
+         *
+         * @return 대기 전송이 상한을 넘었거나 이미 끊긴 연결이면 false (연결 종료 및 구독 해제)
+         */
+        boolean offer(Set<ResponseBodyEmitter.DataWithMediaType> payload) {
+            if (closed.get()) {
+                return false;
+            }
+            if (pendingCount.incrementAndGet() > maxPendingSends) {
+                pendingCount.decrementAndGet();
+                log.debug("Stream subscriber backed up, closing - tickers: {}, pending: {}", tickers, maxPendingSends);
+                close(null);
+                return false;
+            }
+            pending.add(payload);
+            scheduleDrain();
+            return true;
+        }
+
+        private void scheduleDrain() {
+            if (!draining.compareAndSet(false, true)) {
+                return;
+            }
+            try {
+                sendExecutor.execute(this::drain);
+            } catch (RejectedExecutionException e) {
+                draining.set(false);
+                log.warn("Stream send executor saturated, closing subscriber - tickers: {}", tickers);
+                close(null);
+            }
+        }
+
+        private void drain() {
+            do {
+                Set<ResponseBodyEmitter.DataWithMediaType> payload;
+                while ((payload = pending.poll()) != null) {
+                    pendingCount.decrementAndGet();
+                    if (closed.get()) {
+                        continue;
+                    }
+                    try {
+                        emitter.send(payload);
+                    } catch (IOException | IllegalStateException e) {
+                        close(e);
+                    }
+                }
+                draining.set(false);
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private void close(Throwable error) {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            pending.clear();
+            unsubscribe(this);
+            if (error != null) {
+                emitter.completeWithError(error);
+            } else {
+                emitter.complete();
+            }
+        }
+    }
+}
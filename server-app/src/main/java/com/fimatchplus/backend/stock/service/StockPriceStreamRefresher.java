@@ -0,0 +1,57 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.common.service.MarketSessionTtlPolicy;
+import com.fimatchplus.backend.stock.dto.StockPriceStreamEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 스트림 구독 중인 종목만 주기적으로 조회하여 허브에 전달
+ * 클라이언트별 폴링 대신 노드당 하나의 조회로 모든 구독자에게 시세를 공급
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StockPriceStreamRefresher {
+
+    private final StockService stockService;
+    private final StockPriceStreamHub priceStreamHub;
+    private final MarketSessionTtlPolicy ttlPolicy;
+
+    /**
+     * 가격 변동 구간(정규장 + 종가 확정 유예)에는 구독 종목 전체를, 그 외에는 아직 시세가 없는 종목만 조회
+     */
+    @Scheduled(fixedDelayString = "${stock.stream.poll-interval-ms:1000}")
+    public void refreshSubscribedTickers() {
+        boolean marketOpen = ttlPolicy.isPriceMoving();
+        List<String> tickers = priceStreamHub.subscribedTickers().stream()
+                .filter(ticker -> marketOpen || !priceStreamHub.hasSnapshot(ticker))
+                .toList();
+
+        if (tickers.isEmpty()) {
+            return;
+        }
+
+        try {
+            Map<String, StockService.StockPriceInfo> prices = stockService.getMultiCurrentPrices(tickers);
+            Instant now = Instant.now();
+
+            prices.forEach((ticker, info) -> priceStreamHub.publish(new StockPriceStreamEvent(
+                    ticker,
+                    info.currentPrice(),
+                    info.dailyChangeRate(),
+                    info.dailyChangePrice(),
+                    info.sign(),
+                    now
+            )));
+        } catch (Exception e) {
+            log.warn("스트림 구독 종목 시세 갱신 실패 - 종목 수: {}, 오류: {}", tickers.size(), e.getMessage());
+        }
+    }
+}
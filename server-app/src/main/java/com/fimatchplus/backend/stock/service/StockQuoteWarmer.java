@@ -0,0 +1,139 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.common.service.DistributedLockService;
+import com.fimatchplus.backend.common.service.MarketSessionTtlPolicy;
+import com.fimatchplus.backend.portfolio.repository.PortfolioRepository;
+import com.fimatchplus.backend.product.repository.ProductHoldingRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * 장중 보유 종목 시세 캐시 워머
+ * <ul>
+ *     <li>활성 포트폴리오 보유 종목 + 모델 상품 구성 종목의 합집합을 캐시 TTL 만료 직전마다 갱신</li>
+ *     <li>멀티 시세 API로 30종목씩 BACKGROUND 레인에서 호출 (사용자 요청 우선)</li>
+ *     <li>Redis 락 기반 리더 선출로 클러스터에서 한 노드만 워밍 수행</li>
+ *     <li>가격 변동 구간(정규장 + 종가 확정 유예)에만 동작, 마감 후 캐시된 종가는 다음 정규장 시작까지 유지됨</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class StockQuoteWarmer {
+
+    private static final String LEADER_LOCK_KEY = "kis:price:warmer:leader";
+
+    private final KisPriceClient kisPriceClient;
+    private final PortfolioRepository portfolioRepository;
+    private final ProductHoldingRepository productHoldingRepository;
+    private final DistributedLockService lockService;
+    private final MarketSessionTtlPolicy ttlPolicy;
+    private final boolean enabled;
+    private final Duration leaderLeaseTtl;
+    private final Duration warmTimeout;
+
+    private volatile String leaderToken;
+
+    public StockQuoteWarmer(
+            KisPriceClient kisPriceClient,
+            PortfolioRepository portfolioRepository,
+            ProductHoldingRepository productHoldingRepository,
+            DistributedLockService lockService,
+            MarketSessionTtlPolicy ttlPolicy,
+            @Value("${kis.price.warmer.enabled:true}") boolean enabled,
+            @Value("${kis.price.warmer.interval-ms:50000}") long intervalMillis) {
+        this.kisPriceClient = kisPriceClient;
+        this.portfolioRepository = portfolioRepository;
+        this.productHoldingRepository = productHoldingRepository;
+        this.lockService = lockService;
+        this.ttlPolicy = ttlPolicy;
+        this.enabled = enabled;
+        this.leaderLeaseTtl = Duration.ofMillis(intervalMillis * 3);
+        this.warmTimeout = Duration.ofMillis(intervalMillis);
+    }
+
+    @Scheduled(initialDelay = 10_000, fixedDelayString = "${kis.price.warmer.interval-ms:50000}")
+    public void warmHeldTickers() {
+        if (!enabled || !ttlPolicy.isPriceMoving()) {
+            return;
+        }
+
+        if (!acquireOrRenewLeadership()) {
+            log.debug("Quote warmer skipped - not leader");
+            return;
+        }
+
+        long start = System.currentTimeMillis();
+        List<String> tickers = collectHeldTickers();
+        if (tickers.isEmpty()) {
+            return;
+        }
+
+        Integer refreshed = Flux.fromIterable(KisPriceClient.partition(tickers))
+                .concatMap(chunk -> kisPriceClient.refreshMultiPriceReactive(chunk, KisCallPriority.BACKGROUND)
+                        .onErrorResume(e -> {
+                            log.warn("Quote warm-up chunk failed - size: {}, error: {}", chunk.size(), e.getMessage());
+                            return Mono.just(0);
+                        }))
+                .reduce(0, Integer::sum)
+                .timeout(warmTimeout, Mono.fromSupplier(() -> {
+                    log.warn("Quote warm-up timed out after {}ms", warmTimeout.toMillis());
+                    return -1;
+                }))
+                .block();
+
+        log.info("Quote warm-up completed - tickers: {}, refreshed: {}, elapsed: {}ms",
+                tickers.size(), refreshed, System.currentTimeMillis() - start);
+    }
+
+    @PreDestroy
+    void releaseLeadership() {
+        String token = leaderToken;
+        leaderToken = null;
+        lockService.unlock(LEADER_LOCK_KEY, token);
+    }
+
+    /**
+     * 리더이면 임대 기간을 연장하고, 아니면 리더 락 획득 시도
+     */
+    private boolean acquireOrRenewLeadership() {
+        try {
+            String token = leaderToken;
+            if (token != null && lockService.extend(LEADER_LOCK_KEY, token, leaderLeaseTtl)) {
+                return true;
+            }
+
+            leaderToken = lockService.tryLock(LEADER_LOCK_KEY, leaderLeaseTtl);
+            if (leaderToken != null) {
+                log.info("Quote warmer leadership acquired");
+            }
+            return leaderToken != null;
+        } catch (Exception e) {
+            log.warn("Quote warmer leader election failed: {}", e.getMessage());
+            leaderToken = null;
+            return false;
+        }
+    }
+
+    private List<String> collectHeldTickers() {
+        Set<String> tickers = new TreeSet<>();
+        try {
+            tickers.addAll(portfolioRepository.findDistinctActiveHoldingSymbols());
+            tickers.addAll(productHoldingRepository.findDistinctSymbols());
+        } catch (Exception e) {
+            log.warn("Failed to load held tickers for warm-up: {}", e.getMessage());
+        }
+        tickers.removeIf(ticker -> ticker == null || ticker.isBlank());
+        return new ArrayList<>(tickers);
+    }
+}
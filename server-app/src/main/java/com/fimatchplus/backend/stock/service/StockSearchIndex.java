@@ -0,0 +1,303 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.domain.Stock;
+import com.fimatchplus.backend.stock.event.StockMasterChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 종목 검색용 인메모리 인덱스
+ * <ul>
+ *     <li>티커 / 종목명 / 영문명 / 종목명 초성의 1-gram, 2-gram 포스팅 리스트로 후보를 좁힌 뒤 실제 문자열로 검증</li>
+ *     <li>초성만으로 된 검색어(예: ㅅㅅㅈㅈ)는 종목명 초성과 매칭</li>
+ *     <li>정렬은 기존 DB 검색과 동일한 1~7 순위 후 종목명 순</li>
+ *     <li>{@link StockMasterRegistry}의 변경 이벤트를 받아 활성 종목이 달라졌을 때만 새 스냅샷으로 교체 (copy-on-write)</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class StockSearchIndex {
+
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int JUNGSUNG_JONGSUNG_COUNT = 21 * 28;
+    private static final int[] EMPTY = new int[0];
+
+    private final StockMasterRegistry stockMasterRegistry;
+
+    private volatile Snapshot snapshot;
+
+    public StockSearchIndex(StockMasterRegistry stockMasterRegistry) {
+        this.stockMasterRegistry = stockMasterRegistry;
+    }
+
+    /**
+     * 종목 마스터가 교체되면 활성 종목으로 인덱스 재구성
+     */
+    @EventListener
+    public void onStockMasterChanged(StockMasterChangedEvent event) {
+        try {
+            rebuildIfChanged(stockMasterRegistry.activeStocks());
+        } catch (Exception e) {
+            log.warn("Failed to refresh stock search index - master version: {}, error: {}", event.version(), e.getMessage());
+        }
+    }
+
+    /**
+     * 주어진 종목 목록과 현재 스냅샷을 비교하여 달라진 경우에만 새 스냅샷으로 교체
+     */
+    public void rebuildIfChanged(List<Stock> activeStocks) {
+        Snapshot current = snapshot;
+        Map<String, Integer> fingerprints = new HashMap<>(activeStocks.size() * 2);
+        for (Stock stock : activeStocks) {
+            fingerprints.put(stock.getTicker(), fingerprint(stock));
+        }
+
+        if (current != null && current.fingerprints().equals(fingerprints)) {
+            return;
+        }
+
+        long start = System.nanoTime();
+        Snapshot rebuilt = build(activeStocks, fingerprints);
+        snapshot = rebuilt;
+
+        if (current == null) {
+            log.info("Stock search index built - stocks: {}, grams: {}, elapsed: {}ms",
+                    rebuilt.entries().length, rebuilt.postings().size(), (System.nanoTime() - start) / 1_000_000);
+        } else {
+            log.info("Stock search index refreshed - {}, grams: {}, elapsed: {}ms",
+                    describeDiff(current.fingerprints(), fingerprints), rebuilt.postings().size(), (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    /**
+     * 검색어로 종목 검색
+     *
+     * @return 순위순 종목 목록, 인덱스가 아직 준비되지 않았으면 null
+     */
+    public List<Stock> search(String keyword, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return null;
+        }
+
+        String query = keyword.trim().toLowerCase(Locale.ROOT);
+        if (query.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        boolean chosungQuery = isChosungQuery(query);
+        List<Match> matches = new ArrayList<>();
+        for (int id : candidates(current, query)) {
+            Entry entry = current.entries()[id];
+            int tier = rank(entry, query, chosungQuery);
+            if (tier > 0) {
+                matches.add(new Match(tier, entry));
+            }
+        }
+
+        matches.sort(Comparator.comparingInt(Match::tier).thenComparing(match -> match.entry().stock().getName()));
+
+        List<Stock> result = new ArrayList<>(Math.min(limit, matches.size()));
+        for (int i = 0; i < matches.size() && i < limit; i++) {
+            result.add(matches.get(i).entry().stock());
+        }
+        return result;
+    }
+
+    /**
+     * 기존 DB 검색의 CASE 순위와 동일 (초성 검색어는 종목명 초성을 종목명과 같은 순위로 취급)
+     *
+     * @return 1(티커 일치) ~ 7(부분 일치), 매칭되지 않으면 0
+     */
+    private int rank(Entry entry, String query, boolean chosungQuery) {
+        if (entry.ticker().equals(query)) return 1;
+        if (entry.name().equals(query)) return 2;
+        if (entry.engName().equals(query)) return 3;
+        if (chosungQuery && entry.chosung().equals(query)) return 2;
+
+        if (entry.ticker().startsWith(query)) return 4;
+        if (entry.name().startsWith(query) || (chosungQuery && entry.chosung().startsWith(query))) return 5;
+        if (entry.engName().startsWith(query)) return 6;
+        if (entry.ticker().contains(query) || entry.name().contains(query) || entry.engName().contains(query)
+                || (chosungQuery && entry.chosung().contains(query))) return 7;
+        return 0;
+    }
+
+    /**
+     * 검색어의 모든 gram에 대한 포스팅 리스트 교집합 (짧은 리스트부터)
+     */
+    private int[] candidates(Snapshot current, String query) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (query.length() == 1) {
+            grams.add(query);
+        } else {
+            for (int i = 0; i + 1 < query.length(); i++) {
+                grams.add(query.substring(i, i + 2));
+            }
+        }
+
+        List<int[]> lists = new ArrayList<>(grams.size());
+        for (String gram : grams) {
+            int[] posting = current.postings().get(gram);
+            if (posting == null) {
+                return EMPTY;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(list -> list.length));
+
+        int[] result = lists.get(0);
+        for (int i = 1; i < lists.size() && result.length > 0; i++) {
+            result = intersect(result, lists.get(i));
+        }
+        return result;
+    }
+
+    private Snapshot build(List<Stock> activeStocks, Map<String, Integer> fingerprints) {
+        Entry[] entries = new Entry[activeStocks.size()];
+        Map<String, List<Integer>> postingLists = new HashMap<>();
+
+        for (int id = 0; id < entries.length; id++) {
+            Stock stock = activeStocks.get(id);
+            Entry entry = new Entry(
+                    stock,
+                    lower(stock.getTicker()),
+                    lower(stock.getName()),
+                    lower(stock.getEngName()),
+                    toChosung(lower(stock.getName()))
+            );
+            entries[id] = entry;
+
+            Set<String> grams = new LinkedHashSet<>();
+            grams.addAll(grams(entry.ticker()));
+            grams.addAll(grams(entry.name()));
+            grams.addAll(grams(entry.engName()));
+            grams.addAll(grams(entry.chosung()));
+            for (String gram : grams) {
+                postingLists.computeIfAbsent(gram, key -> new ArrayList<>()).add(id);
+            }
+        }
+
+        Map<String, int[]> postings = new HashMap<>(postingLists.size() * 2);
+        postingLists.forEach((gram, ids) -> postings.put(gram, ids.stream().mapToInt(Integer::intValue).toArray()));
+
+        return new Snapshot(entries, Map.copyOf(postings), Map.copyOf(fingerprints));
+    }
+
+    /**
+     * 인덱싱할 1-gram + 2-gram
+     */
+    private static Set<String> grams(String value) {
+        Set<String> grams = new LinkedHashSet<>();
+        if (value.length() == 1) {
+            grams.add(value);
+            return grams;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            grams.add(value.substring(i, i + 1));
+            if (i + 1 < value.length()) {
+                grams.add(value.substring(i, i + 2));
+            }
+        }
+        return grams;
+    }
+
+    private static int[] intersect(int[] left, int[] right) {
+        int[] result = new int[Math.min(left.length, right.length)];
+        int i = 0, j = 0, size = 0;
+        while (i < left.length && j < right.length) {
+            if (left[i] < right[j]) {
+                i++;
+            } else if (left[i] > right[j]) {
+                j++;
+            } else {
+                result[size++] = left[i];
+                i++;
+                j++;
+            }
+        }
+        return size == result.length ? result : Arrays.copyOf(result, size);
+    }
+
+    /**
+     * 한글 음절은 초성으로, 나머지 문자는 그대로 변환 (예: lg디스플레이 -> lgㄷㅅㅍㄹㅇ)
+     */
+    static String toChosung(String value) {
+        StringBuilder builder = new StringBuilder(value.length());
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                builder.append(CHOSUNG[(c - HANGUL_BASE) / JUNGSUNG_JONGSUNG_COUNT]);
+            } else {
+                builder.append(c);
+            }
+        }
+        return builder.toString();
+    }
+
+    /**
+     * 한글 자음이 하나 이상 있고 완성형 음절은 없는 검색어
+     */
+    private static boolean isChosungQuery(String query) {
+        boolean hasConsonant = false;
+        for (int i = 0; i < query.length(); i++) {
+            char c = query.charAt(i);
+            if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+                return false;
+            }
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                hasConsonant = true;
+            }
+        }
+        return hasConsonant;
+    }
+
+    private static String lower(String value) {
+        return value != null ? value.toLowerCase(Locale.ROOT) : "";
+    }
+
+    private static int fingerprint(Stock stock) {
+        return Objects.hash(stock.getName(), stock.getEngName(), stock.getIndustryName(), stock.isActive());
+    }
+
+    private static String describeDiff(Map<String, Integer> previous, Map<String, Integer> current) {
+        int added = 0, updated = 0;
+        for (Map.Entry<String, Integer> entry : current.entrySet()) {
+            Integer before = previous.get(entry.getKey());
+            if (before == null) {
+                added++;
+            } else if (!before.equals(entry.getValue())) {
+                updated++;
+            }
+        }
+        long removed = previous.keySet().stream().filter(ticker -> !current.containsKey(ticker)).count();
+        return "added: " + added + ", updated: " + updated + ", removed: " + removed;
+    }
+
+    private record Entry(Stock stock, String ticker, String name, String engName, String chosung) {}
+
+    private record Match(int tier, Entry entry) {}
+
+    private record Snapshot(Entry[] entries, Map<String, int[]> postings, Map<String, Integer> fingerprints) {}
+}
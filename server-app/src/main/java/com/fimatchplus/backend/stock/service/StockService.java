@@ -1,5 +1,7 @@
 package com.fimatchplus.backend.stock.service;
 
+import com.fimatchplus.backend.common.service.FanOutExecutor;
+import com.fimatchplus.backend.common.util.ETagUtil;
 import com.fimatchplus.backend.stock.dto.StockDetailResponse;
 import com.fimatchplus.backend.stock.dto.StockPriceResponse;
 import com.fimatchplus.backend.stock.dto.StockSearchResponse;
@@ -8,17 +10,33 @@ import com.fimatchplus.backend.stock.repository.StockRepository;
 import com.fimatchplus.backend.stock.domain.Stock;
 import com.fimatchplus.backend.stock.domain.StockPrice;
 import com.fimatchplus.backend.stock.domain.PriceChangeSign;
+import com.fimatchplus.backend.stock.util.BarInterval;
+import com.fimatchplus.backend.stock.util.PriceSeries;
+import com.fimatchplus.backend.stock.util.PriceSeriesAggregator;
 
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.ZoneOffset;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,11 +49,38 @@ public class StockService {
     private final StockRepository stockRepository;
     private final StockPriceRepository stockPriceRepository;
     private final KisPriceClient kisPriceClient;
-
-    public StockService(StockRepository stockRepository, StockPriceRepository stockPriceRepository, KisPriceClient kisPriceClient) {
+    private final StockPriceStreamHub priceStreamHub;
+    private final StockSearchIndex stockSearchIndex;
+    private final StockMasterRegistry stockMasterRegistry;
+    private final PriceSeriesStore priceSeriesStore;
+    private final FanOutExecutor fanOutExecutor;
+    private final Executor kisPriceExecutor;
+    private final int multiPriceParallelism;
+    private final int chartMaxBaseRows;
+
+    public StockService(
+            StockRepository stockRepository,
+            StockPriceRepository stockPriceRepository,
+            KisPriceClient kisPriceClient,
+            StockPriceStreamHub priceStreamHub,
+            StockSearchIndex stockSearchIndex,
+            StockMasterRegistry stockMasterRegistry,
+            PriceSeriesStore priceSeriesStore,
+            FanOutExecutor fanOutExecutor,
+            @Qualifier("kisPriceExecutor") Executor kisPriceExecutor,
+            @Value("${kis.price.multi.parallelism:4}") int multiPriceParallelism,
+            @Value("${stock.chart.max-base-rows:20000}") int chartMaxBaseRows) {
         this.stockRepository = stockRepository;
         this.stockPriceRepository = stockPriceRepository;
         this.kisPriceClient = kisPriceClient;
+        this.priceStreamHub = priceStreamHub;
+        this.stockSearchIndex = stockSearchIndex;
+        this.stockMasterRegistry = stockMasterRegistry;
+        this.priceSeriesStore = priceSeriesStore;
+        this.fanOutExecutor = fanOutExecutor;
+        this.kisPriceExecutor = kisPriceExecutor;
+        this.multiPriceParallelism = multiPriceParallelism;
+        this.chartMaxBaseRows = chartMaxBaseRows;
     }
 
     @Transactional(readOnly = true, timeout = 15) 
@@ -51,71 +96,66 @@ public class StockService {
     public StockPriceResponse getCurrentPriceForSingle(String ticker) {
         Stock stock = getStockByTickerWithTransaction(ticker);
 
-        KisQuoteResponse quote = kisPriceClient.fetchQuote(ticker);
-        java.util.Map<String, Object> out = quote != null ? quote.output() : null;
-        if (out == null) {
+        KisQuote quote = kisPriceClient.fetchQuote(ticker);
+        return buildSinglePriceResponse(stock, quote);
+    }
+
+    /**
+     * 단일 종목 현재가 논블로킹 조회
+     * 종목 메타데이터는 종목 마스터 레지스트리(메모리)에서 조회하므로 블로킹 없음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<StockPriceResponse> getCurrentPriceForSingleReactive(String ticker) {
+        Mono<Stock> stockMono = Mono.fromCallable(() -> stockMasterRegistry.get(ticker));
+        Mono<KisQuote> quoteMono = kisPriceClient.fetchQuoteReactive(ticker)
+                .switchIfEmpty(Mono.error(() -> new RuntimeException("KIS quote response is empty")));
+
+        return Mono.zip(stockMono, quoteMono)
+                .map(tuple -> buildSinglePriceResponse(tuple.getT1(), tuple.getT2()));
+    }
+
+    private StockPriceResponse buildSinglePriceResponse(Stock stock, KisQuote quote) {
+        if (quote == null) {
             throw new RuntimeException("KIS quote response is empty");
         }
 
-        KisParsed parsed = parseKisOutput(out);
         log.info(
-                "KIS quote - status: {}, name: {}, prpr: {}, vrss: {}, sign: {}, ctrt: {}, mcap: {}",
-                parsed.status, parsed.korName, parsed.currentPrice, parsed.dailyChange, parsed.sign, parsed.dailyRate, parsed.marketCap
+                "KIS quote - ticker: {}, prpr: {}, vrss: {}, sign: {}, ctrt: {}, mcap: {}",
+                quote.ticker(), quote.currentPrice(), quote.change(), quote.sign(), quote.changeRate(), quote.marketCap()
         );
 
         List<StockPriceResponse.StockPriceData> data = List.of(
                 new StockPriceResponse.StockPriceData(
                         stock.getTicker(),
                         stock.getName(),
-                        parsed.currentPrice,
-                        parsed.dailyRate,
-                        parsed.dailyChange,
-                        parsed.marketCap,
-                        parsed.sign
+                        quote.currentPrice(),
+                        quote.changeRate(),
+                        quote.change(),
+                        quote.marketCap(),
+                        quote.sign(),
+                        quote.stale()
                 )
         );
 
         return StockPriceResponse.success(data);
     }
 
-    private double parseDouble(Object value) {
-        if (value == null) return 0.0;
-        try {
-            return Double.parseDouble(String.valueOf(value));
-        } catch (NumberFormatException e) {
-            return 0.0;
-        }
-    }
-
-    private KisParsed parseKisOutput(java.util.Map<String, Object> out) {
-        KisParsed parsed = new KisParsed();
-        parsed.currentPrice = parseDouble(out.get("stck_prpr"));
-        String signCode = String.valueOf(out.get("prdy_vrss_sign"));
-        parsed.sign = PriceChangeSign.fromCode(signCode);
-        parsed.dailyChange = parseDouble(out.get("prdy_vrss"));
-        parsed.dailyRate = parseDouble(out.get("prdy_ctrt"));
-        parsed.marketCap = parseDouble(out.get("hts_avls"));
-        parsed.status = String.valueOf(out.get("iscd_stat_cls_code"));
-        parsed.korName = String.valueOf(out.get("bstp_kor_isnm"));
-        return parsed;
-    }
-
-    private static class KisParsed {
-        double currentPrice;
-        double dailyChange;
-        double dailyRate;
-        double marketCap;
-        String status;
-        String korName;
-        PriceChangeSign sign;
-    }
-
 
+    /**
+     * 종목 상세 조회
+     * 종목 정보는 레지스트리(메모리)에서, 차트와 요약(최신 가격)은 서로 독립적이므로 병렬 조회
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public StockDetailResponse getStockDetail(String ticker, String interval) {
         Stock stock = getStockByTicker(ticker);
-        List<StockDetailResponse.ChartData> chartData = getChartDataForDetail(ticker, interval);
-        StockDetailResponse.SummaryData summaryData = createSummaryData(stock, ticker, interval);
-        StockDetailResponse.StockDetailData detailData = createStockDetailData(stock, chartData, summaryData);
+
+        StockDetailResponse.StockDetailData detailData;
+        try (FanOutExecutor.Scope scope = fanOutExecutor.open("stock-detail")) {
+            FanOutExecutor.Branch<List<StockDetailResponse.ChartData>> chartData = scope.fork("chart", () -> getChartDataForDetail(ticker, interval));
+            FanOutExecutor.Branch<StockDetailResponse.SummaryData> summaryData = scope.fork("summary", () -> createSummaryData(stock, ticker, interval));
+            scope.join();
+            detailData = createStockDetailData(stock, chartData.get(), summaryData.get());
+        }
 
         return StockDetailResponse.success(
                 "종목 상세 정보를 성공적으로 조회했습니다.",
@@ -123,17 +163,101 @@ public class StockService {
         );
     }
 
-    public List<StockDetailResponse.ChartData> getChartData(String stockId, String intervalUnit, LocalDateTime startDate, LocalDateTime endDate, int limit) {
-        Pageable pageable = PageRequest.of(0, limit);
-        List<StockPrice> prices = stockPriceRepository.findByStockCodeAndInterval(
-                stockId, intervalUnit, startDate, endDate, pageable
-        );
+    /**
+     * 종목 상세 응답의 ETag
+     * 종목 마스터 버전과 차트/요약에 쓰이는 시계열의 마지막 봉으로 계산 (차트 기간이 날짜 기준이므로 오늘 날짜 포함)
+     *
+     * @return 시계열 버전을 알 수 없으면 빈 Optional
+     */
+    public Optional<String> getStockDetailETag(String ticker, String interval) {
+        String baseInterval = BarInterval.fromCode(interval).map(value -> value.base().code()).orElse(interval);
+        Optional<String> baseVersion = priceSeriesStore.version(ticker, baseInterval);
+        Optional<String> intervalVersion = baseInterval.equals(interval) ? baseVersion : priceSeriesStore.version(ticker, interval);
+        if (baseVersion.isEmpty() || intervalVersion.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(ETagUtil.of("stock-detail", ticker, interval, LocalDate.now(),
+                stockMasterRegistry.version(), baseVersion.get(), intervalVersion.get()));
+    }
+
+    /**
+     * 차트 응답의 ETag (요청 파라미터 + 기준 시계열 버전 + 요청 단위 시계열 버전)
+     * 기준 데이터가 없으면 요청 단위로 저장된 행을 그대로 응답하므로 해당 단위의 버전도 포함
+     *
+     * @return 시계열 버전을 알 수 없으면 빈 Optional
+     */
+    public Optional<String> getChartDataETag(String stockId, String intervalUnit, LocalDateTime startDate, LocalDateTime endDate, int limit, int maxPoints) {
+        String baseInterval = BarInterval.fromCode(intervalUnit).map(value -> value.base().code()).orElse(intervalUnit);
+        Optional<String> baseVersion = priceSeriesStore.version(stockId, baseInterval);
+        Optional<String> intervalVersion = baseInterval.equals(intervalUnit) ? baseVersion : priceSeriesStore.version(stockId, intervalUnit);
+        if (baseVersion.isEmpty() || intervalVersion.isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(ETagUtil.of("chart", stockId, intervalUnit, startDate, endDate, limit, maxPoints,
+                baseVersion.get(), intervalVersion.get()));
+    }
+
+    /**
+     * 차트 데이터 조회
+     * <ul>
+     *     <li>기준 시계열(1m/1d)을 요청한 봉 단위로 집계, 기준 데이터가 없으면 해당 단위로 저장된 행을 그대로 사용</li>
+     *     <li>기준 시계열은 인메모리 시계열 저장소에서 읽고, 적재 범위를 벗어난 구간만 DB 조회</li>
+     *     <li>limit: 최근 봉 개수, maxPoints: 0보다 크면 인접 봉을 병합해 최대 maxPoints개로 축소</li>
+     *     <li>응답은 기존과 동일하게 최신순</li>
+     * </ul>
+     */
+    public List<StockDetailResponse.ChartData> getChartData(String stockId, String intervalUnit, LocalDateTime startDate, LocalDateTime endDate, int limit, int maxPoints) {
+        PriceSeries series = loadPriceSeries(stockId, intervalUnit, startDate, endDate, limit, maxPoints);
+        if (limit > 0) {
+            series = series.tail(limit);
+        }
+        series = PriceSeriesAggregator.downsample(series, maxPoints);
+
+        return convertToChartDataList(series);
+    }
+
+    private PriceSeries loadPriceSeries(String stockId, String intervalUnit, LocalDateTime startDate, LocalDateTime endDate, int limit, int maxPoints) {
+        BarInterval interval = BarInterval.fromCode(intervalUnit).orElse(null);
+        if (interval == null) {
+            return PriceSeries.fromStockPrices(findStoredPrices(stockId, intervalUnit, startDate, endDate, limit));
+        }
+
+        PriceSeries base;
+        boolean truncated = false;
+        Optional<PriceSeries> cached = priceSeriesStore.range(stockId, interval.base().code(), startDate, endDate);
+        if (cached.isPresent()) {
+            base = cached.get();
+        } else {
+            // 집계/축소가 없으면 최근 limit개만 읽으면 충분
+            int rows = interval.isBase() && maxPoints <= 0 && limit > 0 ? Math.min(limit, chartMaxBaseRows) : chartMaxBaseRows;
+            base = PriceSeries.fromStockPrices(findStoredPrices(stockId, interval.base().code(), startDate, endDate, rows));
+            truncated = base.size() >= rows;
+        }
+
+        if (base.isEmpty() && !interval.isBase()) {
+            return PriceSeries.fromStockPrices(findStoredPrices(stockId, intervalUnit, startDate, endDate, limit));
+        }
 
-        return convertToChartDataList(prices);
+        PriceSeries aggregated = PriceSeriesAggregator.aggregate(base, interval);
+        if (!interval.isBase() && truncated && aggregated.size() > 1) {
+            // 조회 상한에 걸린 경우 가장 오래된 봉은 일부 구간만 포함하므로 제외
+            return aggregated.slice(1, aggregated.size());
+        }
+        return aggregated;
+    }
+
+    private List<StockPrice> findStoredPrices(String stockId, String intervalUnit, LocalDateTime startDate, LocalDateTime endDate, int rows) {
+        Pageable pageable = PageRequest.of(0, rows > 0 ? rows : chartMaxBaseRows);
+        return stockPriceRepository.findByStockCodeAndInterval(stockId, intervalUnit, startDate, endDate, pageable);
     }
 
+    /**
+     * 실시간 현재가를 스트림 구독자에게 전달 (flush 주기마다 종목별 최신값만 전송)
+     */
     public void sendRealTimeStockPrice(String ticker, double price) {
-        System.out.println("Real-time price update - Ticker: " + ticker + ", Price: " + price);
+        priceStreamHub.publishPrice(ticker, price);
     }
 
     /**
@@ -148,8 +272,12 @@ public class StockService {
             return StockSearchResponse.success(List.of());
         }
 
-        List<Stock> stocks = stockRepository.searchByNameOrTicker(keyword.trim(), 
-                org.springframework.data.domain.PageRequest.of(0, limit));
+        List<Stock> stocks = stockSearchIndex.search(keyword, limit);
+        if (stocks == null) {
+            log.debug("Stock search index not ready, falling back to DB search - keyword: {}", keyword);
+            stocks = stockRepository.searchByNameOrTicker(keyword.trim(), 
+                    org.springframework.data.domain.PageRequest.of(0, limit));
+        }
         
         List<StockSearchResponse.StockSearchData> searchData = stocks.stream()
                 .map(stock -> StockSearchResponse.StockSearchData.of(
@@ -170,14 +298,11 @@ public class StockService {
      * @throws RuntimeException 종목을 찾을 수 없는 경우
      */
     public Stock getStockByTicker(String ticker) {
-        return stockRepository.findByTicker(ticker)
-                .orElseThrow(() -> new RuntimeException("종목을 찾을 수 없습니다: " + ticker));
+        return stockMasterRegistry.get(ticker);
     }
 
-    @Transactional(readOnly = true, timeout = 5)
     public Stock getStockByTickerWithTransaction(String ticker) {
-        return stockRepository.findByTicker(ticker)
-                .orElseThrow(() -> new RuntimeException("종목을 찾을 수 없습니다: " + ticker));
+        return stockMasterRegistry.get(ticker);
     }
 
     /**
@@ -190,7 +315,7 @@ public class StockService {
         if (tickers == null || tickers.isEmpty()) {
             return List.of();
         }
-        return stockRepository.findByTickerIn(tickers);
+        return stockMasterRegistry.findAll(tickers);
     }
 
     /**
@@ -199,12 +324,11 @@ public class StockService {
      * @param tickers 종목 티커 리스트
      * @return Stock 객체 리스트
      */
-    @Transactional(readOnly = true, timeout = 5)
     public List<Stock> getStocksWithTransaction(List<String> tickers) {
         if (tickers == null || tickers.isEmpty()) {
             return List.of();
         }
-        return stockRepository.findByTickerIn(tickers);
+        return stockMasterRegistry.findAll(tickers);
     }
 
     /**
@@ -236,11 +360,79 @@ public class StockService {
         }
 
         List<Stock> stocks = getStocksWithTransaction(tickers);
+        Map<String, StockPriceInfo> priceMap = getMultiCurrentPrices(tickers);
+
+        return buildRealtimePriceResponse(tickers, stocks, priceMap);
+    }
+
+    /**
+     * 멀티 종목 실시간 현재가 논블로킹 조회
+     * 종목 메타데이터는 종목 마스터 레지스트리(메모리)에서 조회하므로 블로킹 없음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public Mono<StockPriceResponse> getRealtimeStockPricesReactive(List<String> tickers) {
+        if (tickers == null || tickers.isEmpty()) {
+            return Mono.just(StockPriceResponse.success(List.of()));
+        }
+
+        Mono<List<Stock>> stocksMono = Mono.fromCallable(() -> getStocksWithTransaction(tickers));
+
+        return Mono.zip(stocksMono, getMultiCurrentPricesReactive(tickers))
+                .map(tuple -> buildRealtimePriceResponse(tickers, tuple.getT1(), tuple.getT2()));
+    }
+
+    /**
+     * 대량 종목 실시간 현재가 스트리밍 조회 (NDJSON 응답용)
+     * <ul>
+     *     <li>시세가 확보되는 순서대로 종목별 데이터를 방출 (요청 순서와 다를 수 있음)</li>
+     *     <li>끝까지 시세를 얻지 못한 종목은 마지막에 0 값으로 방출하여 요청 종목 수와 응답 건수를 맞춤</li>
+     * </ul>
+     */
+    public Flux<StockPriceResponse.StockPriceData> streamRealtimeStockPrices(List<String> tickers) {
+        if (tickers == null || tickers.isEmpty()) {
+            return Flux.empty();
+        }
+
+        return Flux.defer(() -> {
+            Set<String> emitted = ConcurrentHashMap.newKeySet();
+
+            Flux<StockPriceResponse.StockPriceData> resolved = kisPriceClient
+                    .streamMultiPrice(tickers, KisCallPriority.INTERACTIVE, multiPriceParallelism)
+                    .filter(quote -> emitted.add(quote.ticker()))
+                    .map(quote -> new StockPriceResponse.StockPriceData(
+                            quote.ticker(),
+                            resolveStockName(quote),
+                            quote.currentPrice(),
+                            quote.changeRate(),
+                            quote.change(),
+                            0.0,
+                            quote.sign(),
+                            quote.stale()
+                    ));
+
+            Flux<StockPriceResponse.StockPriceData> unresolved = Flux.defer(() -> Flux.fromStream(tickers.stream()
+                    .distinct()
+                    .filter(ticker -> !emitted.contains(ticker))
+                    .map(ticker -> new StockPriceResponse.StockPriceData(
+                            ticker,
+                            stockMasterRegistry.find(ticker).map(Stock::getName).orElse("알 수 없음"),
+                            0.0, 0.0, 0.0, 0.0, PriceChangeSign.FLAT, false
+                    ))));
+
+            return resolved.concatWith(unresolved);
+        });
+    }
+
+    private String resolveStockName(KisQuote quote) {
+        return stockMasterRegistry.find(quote.ticker())
+                .map(Stock::getName)
+                .orElseGet(() -> quote.name() != null ? quote.name() : "알 수 없음");
+    }
+
+    private StockPriceResponse buildRealtimePriceResponse(List<String> tickers, List<Stock> stocks, Map<String, StockPriceInfo> priceMap) {
         Map<String, String> tickerNameMap = stocks.stream()
                 .collect(Collectors.toMap(Stock::getTicker, Stock::getName));
 
-        Map<String, StockPriceInfo> priceMap = getMultiCurrentPrices(tickers);
-
         List<StockPriceResponse.StockPriceData> priceDataList = tickers.stream()
                 .map(ticker -> {
                     String name = tickerNameMap.getOrDefault(ticker, "알 수 없음");
@@ -248,7 +440,7 @@ public class StockService {
                     
                     if (priceInfo == null) {
                         return new StockPriceResponse.StockPriceData(
-                                ticker, name, 0.0, 0.0, 0.0, 0.0, PriceChangeSign.FLAT
+                                ticker, name, 0.0, 0.0, 0.0, 0.0, PriceChangeSign.FLAT, false
                         );
                     }
                     
@@ -259,7 +451,8 @@ public class StockService {
                             priceInfo.dailyChangeRate(),
                             priceInfo.dailyChangePrice(),
                             0.0,
-                            priceInfo.sign()
+                            priceInfo.sign(),
+                            priceInfo.stale()
                     );
                 })
                 .collect(Collectors.toList());
@@ -269,6 +462,10 @@ public class StockService {
 
     /**
      * 여러 종목의 현재가와 전일종가를 KIS API로 조회합니다.
+     * <ul>
+     *     <li>KIS 호출 한도(30종목) 단위로 나누어 kisPriceExecutor에서 병렬 조회 후 병합</li>
+     *     <li>일부 청크 실패 시 해당 청크만 제외하고, 모든 청크가 실패한 경우에만 예외</li>
+     * </ul>
      *
      * @param tickers 종목 티커 목록
      * @return 종목별 현재가와 전일종가 정보
@@ -279,45 +476,96 @@ public class StockService {
             return Map.of();
         }
 
+        List<List<String>> chunks = partitionTickers(tickers);
+        if (chunks.size() == 1) {
+            return fetchPriceChunk(chunks.get(0));
+        }
+
+        AtomicInteger failedChunks = new AtomicInteger();
+        List<CompletableFuture<Map<String, StockPriceInfo>>> futures = chunks.stream()
+                .map(chunk -> CompletableFuture
+                        .supplyAsync(() -> fetchPriceChunk(chunk), kisPriceExecutor)
+                        .exceptionally(e -> {
+                            failedChunks.incrementAndGet();
+                            log.warn("KIS 가격 청크 조회 실패 - 종목 수: {}, 오류: {}", chunk.size(), e.getMessage());
+                            return Map.of();
+                        }))
+                .toList();
+
+        Map<String, StockPriceInfo> priceMap = new HashMap<>();
+        for (CompletableFuture<Map<String, StockPriceInfo>> future : futures) {
+            priceMap.putAll(future.join());
+        }
+
+        if (failedChunks.get() == chunks.size()) {
+            throw new RuntimeException("가격 조회 실패: 전체 " + chunks.size() + "개 청크 조회 실패");
+        }
+
+        log.debug("KIS 다중 가격 조회 완료 - 종목 수: {}, 청크: {}, 실패 청크: {}", priceMap.size(), chunks.size(), failedChunks.get());
+        return priceMap;
+    }
+
+    /**
+     * {@link #getMultiCurrentPrices(List)}의 논블로킹 버전
+     * 청크 조회를 최대 kis.price.multi.parallelism 개까지 동시에 구독하며 스레드를 점유하지 않음
+     */
+    public Mono<Map<String, StockPriceInfo>> getMultiCurrentPricesReactive(List<String> tickers) {
+        if (tickers.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+
+        List<List<String>> chunks = partitionTickers(tickers);
+        AtomicInteger failedChunks = new AtomicInteger();
+
+        return Flux.fromIterable(chunks)
+                .flatMap(chunk -> kisPriceClient.fetchMultiPriceReactive(chunk)
+                        .map(this::toPriceInfoMap)
+                        .onErrorResume(e -> {
+                            failedChunks.incrementAndGet();
+                            log.warn("KIS 가격 청크 조회 실패 - 종목 수: {}, 오류: {}", chunk.size(), e.getMessage());
+                            return Mono.just(Map.of());
+                        }), multiPriceParallelism)
+                .collect(() -> new HashMap<String, StockPriceInfo>(), Map::putAll)
+                .flatMap(priceMap -> {
+                    if (failedChunks.get() == chunks.size()) {
+                        return Mono.error(new RuntimeException("가격 조회 실패: 전체 " + chunks.size() + "개 청크 조회 실패"));
+                    }
+                    log.debug("KIS 다중 가격 조회 완료 - 종목 수: {}, 청크: {}, 실패 청크: {}", priceMap.size(), chunks.size(), failedChunks.get());
+                    return Mono.just(priceMap);
+                });
+    }
+
+    private List<List<String>> partitionTickers(List<String> tickers) {
+        return KisPriceClient.partition(tickers.stream().distinct().toList());
+    }
+
+    private Map<String, StockPriceInfo> fetchPriceChunk(List<String> tickers) {
         try {
-            KisMultiPriceResponse response = kisPriceClient.fetchMultiPrice(tickers);
-            
-            if (!"0".equals(response.rtCd())) {
-                throw new RuntimeException("KIS API 오류: " + response.msg1());
-            }
-
-            Map<String, StockPriceInfo> priceMap = new HashMap<>();
-            
-            for (KisMultiPriceResponse.ResponseBodyOutput output : response.output()) {
-                try {
-                    String ticker = output.interShrnIscd();
-                    double currentPrice = Double.parseDouble(output.inter2Prpr());
-                    PriceChangeSign sign = PriceChangeSign.fromCode(output.prdyVrssSign());
-                    double dailyChangeRate = parseDouble(output.prdyCtrt());
-                    double dailyChangePrice = parseDouble(output.inter2PrdyVrss());
-                    
-                    priceMap.put(ticker, new StockPriceInfo(currentPrice, dailyChangeRate, dailyChangePrice, sign));
-                } catch (NumberFormatException e) {
-                    log.warn("가격 데이터 파싱 오류 - 종목: {}, 현재가: {}, 전일대비: {}", 
-                            output.interShrnIscd(), output.inter2Prpr(), output.inter2PrdyVrss());
-                }
-            }
-            
-            return priceMap;
+            return toPriceInfoMap(kisPriceClient.fetchMultiPrice(tickers));
         } catch (Exception e) {
             log.error("KIS 다중 가격 조회 오류: {}", e.getMessage());
             throw new RuntimeException("가격 조회 실패: " + e.getMessage());
         }
     }
 
+    private Map<String, StockPriceInfo> toPriceInfoMap(Map<String, KisQuote> quotes) {
+        Map<String, StockPriceInfo> priceMap = new HashMap<>();
+        for (KisQuote quote : quotes.values()) {
+            priceMap.put(quote.ticker(), new StockPriceInfo(quote.currentPrice(), quote.changeRate(), quote.change(), quote.sign(), quote.stale()));
+        }
+        return priceMap;
+    }
+
     /**
      * 종목 가격 정보를 담는 레코드
+     *
+     * @param stale KIS 장애/지연으로 마지막 정상 시세를 대신 사용했는지 여부
      */
-    public record StockPriceInfo(double currentPrice, double dailyChangeRate, double dailyChangePrice, PriceChangeSign sign) {}
+    public record StockPriceInfo(double currentPrice, double dailyChangeRate, double dailyChangePrice, PriceChangeSign sign, boolean stale) {}
 
 
     private List<Stock> findStocksByTickers(List<String> tickers) {
-        return stockRepository.findByTickerIn(tickers);
+        return stockMasterRegistry.findAll(tickers);
     }
 
     private List<StockPrice> findLatestPricesByTickers(List<String> tickers) {
@@ -353,14 +601,15 @@ public class StockService {
                 stock.getName(),
                 0.0, 0.0, 0.0,
                 0.0,
-                PriceChangeSign.FLAT
+                PriceChangeSign.FLAT,
+                false
         );
     }
 
     private StockPriceResponse.StockPriceData createStockPriceDataFromPrice(Stock stock, StockPrice latestPrice) {
         double currentPrice = latestPrice.getClosePrice().doubleValue();
-        double dailyChange = latestPrice.getChangeAmount().doubleValue();
-        double dailyRate = latestPrice.getChangeRate().doubleValue();
+        double dailyChange = doubleOrZero(latestPrice.getChangeAmount());
+        double dailyRate = doubleOrZero(latestPrice.getChangeRate());
         
         PriceChangeSign sign = estimateSignFromRate(dailyRate);
 
@@ -371,7 +620,8 @@ public class StockService {
                 dailyRate,
                 dailyChange,
                 0.0,
-                sign
+                sign,
+                false
         );
     }
 
@@ -379,29 +629,26 @@ public class StockService {
     private List<StockDetailResponse.ChartData> getChartDataForDetail(String ticker, String interval) {
         LocalDateTime endDate = LocalDateTime.now();
         LocalDateTime startDate = endDate.minusDays(30);
-        Pageable pageable = PageRequest.of(0, 100);
-        List<StockPrice> chartPrices = stockPriceRepository.findByStockCodeAndInterval(
-                ticker, interval, startDate, endDate, pageable
-        );
 
-        return convertToChartDataList(chartPrices);
+        return getChartData(ticker, interval, startDate, endDate, 100, 0);
     }
 
-    private List<StockDetailResponse.ChartData> convertToChartDataList(List<StockPrice> prices) {
-        return prices.stream()
-                .map(this::convertToChartData)
-                .collect(Collectors.toList());
-    }
-
-    private StockDetailResponse.ChartData convertToChartData(StockPrice price) {
-        return new StockDetailResponse.ChartData(
-                price.getDatetime().toInstant(ZoneOffset.UTC),
-                price.getOpenPrice().doubleValue(),
-                price.getClosePrice().doubleValue(),
-                price.getHighPrice().doubleValue(),
-                price.getLowPrice().doubleValue(),
-                price.getVolume()
-        );
+    /**
+     * 시간 오름차순 시계열을 최신순 차트 데이터로 변환
+     */
+    private List<StockDetailResponse.ChartData> convertToChartDataList(PriceSeries series) {
+        List<StockDetailResponse.ChartData> chartData = new ArrayList<>(series.size());
+        for (int i = series.size() - 1; i >= 0; i--) {
+            chartData.add(new StockDetailResponse.ChartData(
+                    Instant.ofEpochMilli(series.time(i)),
+                    series.open(i),
+                    series.close(i),
+                    series.high(i),
+                    series.low(i),
+                    series.volume(i)
+            ));
+        }
+        return chartData;
     }
 
     private StockDetailResponse.SummaryData createSummaryData(Stock stock, String ticker, String interval) {
@@ -424,7 +671,7 @@ public class StockService {
     }
 
     private StockDetailResponse.SummaryData createSummaryDataFromPrice(Stock stock, StockPrice latestPrice) {
-        double dailyRate = latestPrice.getChangeRate().doubleValue();
+        double dailyRate = doubleOrZero(latestPrice.getChangeRate());
         PriceChangeSign sign = estimateSignFromRate(dailyRate);
         
         return new StockDetailResponse.SummaryData(
@@ -432,7 +679,7 @@ public class StockService {
                 stock.getName(),
                 latestPrice.getClosePrice().doubleValue(),
                 dailyRate,
-                latestPrice.getChangeAmount().doubleValue(),
+                doubleOrZero(latestPrice.getChangeAmount()),
                 latestPrice.getVolume(),
                 0.0,
                 sign
@@ -467,4 +714,11 @@ public class StockService {
             return PriceChangeSign.FLAT;
         }
     }
+
+    /**
+     * 변동 필드가 비어 있는 행(틱 수집으로 저장된 분봉 등)은 0으로 처리
+     */
+    private static double doubleOrZero(BigDecimal value) {
+        return value != null ? value.doubleValue() : 0.0;
+    }
 }
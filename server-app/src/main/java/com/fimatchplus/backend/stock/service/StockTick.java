@@ -0,0 +1,16 @@
+package com.fimatchplus.backend.stock.service;
+
+/**
+ * 체결 틱 (실시간 체결 피드 공통 형식)
+ *
+ * @param price         체결가
+ * @param quantity      체결 수량
+ * @param epochMillis   체결 시각 (UTC epoch millis)
+ */
+public record StockTick(
+        String ticker,
+        double price,
+        long quantity,
+        long epochMillis
+) {
+}
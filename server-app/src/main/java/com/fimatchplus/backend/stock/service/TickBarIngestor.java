@@ -0,0 +1,238 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.repository.StockPriceSeriesRepository;
+import com.fimatchplus.backend.stock.util.BarInterval;
+import com.fimatchplus.backend.stock.util.PriceSeries;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 실시간 체결 틱 수집 및 분봉 생성 파이프라인
+ * <ul>
+ *     <li>{@link TickSource}에서 받은 틱을 종목/간격별 {@link BarAccumulator}에 반영 (틱 경로에 락 없음)</li>
+ *     <li>틱마다 현재가를 스트림 허브에 전달 (허브에서 flush 주기 단위로 병합)</li>
+ *     <li>완성된 봉은 큐에 모았다가 flush 주기마다 {@link PriceSeriesStore}에 먼저 반영한 뒤 stock_prices에 일괄 저장</li>
+ *     <li>큐가 상한을 넘으면 가장 오래된 봉부터 버려 메모리 사용량을 제한</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class TickBarIngestor {
+
+    // KST는 서머타임이 없어 고정 오프셋으로 벽시계 기준 시각 계산 (PriceSeries 시각 규약)
+    private static final long KST_OFFSET_MILLIS = Duration.ofHours(9).toMillis();
+
+    private final List<TickSource> tickSources;
+    private final StockPriceStreamHub priceStreamHub;
+    private final PriceSeriesStore priceSeriesStore;
+    private final StockPriceSeriesRepository seriesRepository;
+    private final boolean enabled;
+    private final String sourceName;
+    private final List<BarInterval> intervals;
+    private final boolean persist;
+    private final boolean persistSynthetic;
+    private final long closeGraceMillis;
+    private final int batchSize;
+    private final int maxPendingBars;
+
+    private final ConcurrentHashMap<String, BarAccumulator[]> accumulators = new ConcurrentHashMap<>();
+    private final ConcurrentLinkedQueue<CompletedBar> completedBars = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingBars = new AtomicInteger();
+    private final LongAdder droppedBars = new LongAdder();
+
+    private volatile TickSource activeSource;
+
+    public TickBarIngestor(
+            List<TickSource> tickSources,
+            StockPriceStreamHub priceStreamHub,
+            PriceSeriesStore priceSeriesStore,
+            StockPriceSeriesRepository seriesRepository,
+            @Value("${stock.ingest.enabled:false}") boolean enabled,
+            @Value("${stock.ingest.source:simulator}") String sourceName,
+            @Value("${stock.ingest.intervals:1m,5m}") List<String> intervalCodes,
+            @Value("${stock.ingest.persist:true}") boolean persist,
+            @Value("${stock.ingest.persist-synthetic:false}") boolean persistSynthetic,
+            @Value("${stock.ingest.close-grace-ms:2000}") long closeGraceMillis,
+            @Value("${stock.ingest.batch-size:500}") int batchSize,
+            @Value("${stock.ingest.max-pending-bars:100000}") int maxPendingBars) {
+        this.tickSources = tickSources;
+        this.priceStreamHub = priceStreamHub;
+        this.priceSeriesStore = priceSeriesStore;
+        this.seriesRepository = seriesRepository;
+        this.enabled = enabled;
+        this.sourceName = sourceName;
+        this.intervals = intervalCodes.stream()
+                .map(code -> BarInterval.fromCode(code.trim())
+                        .filter(interval -> interval.fixedMillis() > 0)
+                        .orElseThrow(() -> new IllegalArgumentException("지원하지 않는 실시간 봉 간격: " + code)))
+                .toList();
+        this.persist = persist;
+        this.persistSynthetic = persistSynthetic;
+        this.closeGraceMillis = closeGraceMillis;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxPendingBars = Math.max(1, maxPendingBars);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+
+        Optional<TickSource> source = tickSources.stream()
+                .filter(candidate -> candidate.name().equals(sourceName))
+                .findFirst();
+        if (source.isEmpty()) {
+            log.warn("Tick source not found: {} - 실시간 틱 수집을 시작하지 않습니다", sourceName);
+            return;
+        }
+
+        activeSource = source.get();
+        activeSource.start(this::onTick);
+        log.info("Tick ingestion started - source: {}, intervals: {}, persist: {}",
+                sourceName, intervals.stream().map(BarInterval::code).toList(), shouldPersist());
+    }
+
+    @PreDestroy
+    public void stop() {
+        TickSource source = activeSource;
+        if (source == null) {
+            return;
+        }
+        source.stop();
+        closeEndedBars(System.currentTimeMillis() + KST_OFFSET_MILLIS);
+        flush();
+        activeSource = null;
+    }
+
+    /**
+     * 틱 반영 (피드 스레드에서 호출, 여러 스레드에서 동시 호출 가능)
+     */
+    public void onTick(StockTick tick) {
+        long time = tick.epochMillis() + KST_OFFSET_MILLIS;
+        for (BarAccumulator accumulator : accumulatorsOf(tick.ticker())) {
+            CompletedBar completed = accumulator.onTick(time, tick.price(), tick.quantity());
+            if (completed != null) {
+                enqueue(completed);
+            }
+        }
+        priceStreamHub.publishPrice(tick.ticker(), tick.price());
+    }
+
+    /**
+     * 종료된 봉 완성 처리 후 완성 봉을 저장소 반영 -> DB 일괄 저장
+     */
+    @Scheduled(fixedDelayString = "${stock.ingest.flush-interval-ms:1000}")
+    public void flushCompletedBars() {
+        if (activeSource == null) {
+            return;
+        }
+        closeEndedBars(System.currentTimeMillis() + KST_OFFSET_MILLIS);
+        flush();
+    }
+
+    private void closeEndedBars(long now) {
+        for (BarAccumulator[] tickerAccumulators : accumulators.values()) {
+            for (BarAccumulator accumulator : tickerAccumulators) {
+                CompletedBar completed = accumulator.closeIfEnded(now, closeGraceMillis);
+                if (completed != null) {
+                    enqueue(completed);
+                }
+            }
+        }
+    }
+
+    private void flush() {
+        List<CompletedBar> batch = new ArrayList<>(batchSize);
+        CompletedBar bar;
+        while ((bar = completedBars.poll()) != null) {
+            pendingBars.decrementAndGet();
+            batch.add(bar);
+            if (batch.size() >= batchSize) {
+                writeBatch(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            writeBatch(batch);
+        }
+
+        long dropped = droppedBars.sumThenReset();
+        if (dropped > 0) {
+            log.warn("완성 봉 대기열 초과로 {}개 봉을 버렸습니다 (max-pending-bars: {})", dropped, maxPendingBars);
+        }
+    }
+
+    private void writeBatch(List<CompletedBar> batch) {
+        Map<String, Map<String, PriceSeries.Builder>> builders = new LinkedHashMap<>();
+        for (CompletedBar bar : batch) {
+            builders.computeIfAbsent(bar.interval().code(), code -> new LinkedHashMap<>())
+                    .computeIfAbsent(bar.ticker(), ticker -> new PriceSeries.Builder(4))
+                    .add(bar.startMillis(), bar.open(), bar.high(), bar.low(), bar.close(), bar.volume());
+        }
+
+        builders.forEach((intervalUnit, byTicker) -> {
+            Map<String, PriceSeries> barsByTicker = new LinkedHashMap<>();
+            byTicker.forEach((ticker, builder) -> {
+                PriceSeries bars = builder.build();
+                barsByTicker.put(ticker, bars);
+                priceSeriesStore.append(ticker, intervalUnit, bars);
+            });
+
+            if (!shouldPersist()) {
+                return;
+            }
+            try {
+                long start = System.nanoTime();
+                int inserted = seriesRepository.insertBars(intervalUnit, barsByTicker);
+                log.debug("Flushed {} bars - interval: {}, tickers: {}, elapsed: {}ms",
+                        inserted, intervalUnit, barsByTicker.size(), (System.nanoTime() - start) / 1_000_000);
+            } catch (Exception e) {
+                log.error("실시간 봉 저장 실패 - interval: {}, tickers: {}, error: {}", intervalUnit, barsByTicker.size(), e.getMessage());
+            }
+        });
+    }
+
+    private void enqueue(CompletedBar bar) {
+        completedBars.offer(bar);
+        if (pendingBars.incrementAndGet() > maxPendingBars && completedBars.poll() != null) {
+            pendingBars.decrementAndGet();
+            droppedBars.increment();
+        }
+    }
+
+    private BarAccumulator[] accumulatorsOf(String ticker) {
+        BarAccumulator[] existing = accumulators.get(ticker);
+        if (existing != null) {
+            return existing;
+        }
+        return accumulators.computeIfAbsent(ticker, key -> {
+            BarAccumulator[] created = new BarAccumulator[intervals.size()];
+            for (int i = 0; i < created.length; i++) {
+                created[i] = new BarAccumulator(key, intervals.get(i));
+            }
+            return created;
+        });
+    }
+
+    private boolean shouldPersist() {
+        TickSource source = activeSource;
+        return persist && (source == null || !source.synthetic() || persistSynthetic);
+    }
+}
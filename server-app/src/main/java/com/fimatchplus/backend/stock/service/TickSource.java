@@ -0,0 +1,24 @@
+package com.fimatchplus.backend.stock.service;
+
+import java.util.function.Consumer;
+
+/**
+ * 실시간 체결 틱 공급원
+ * <ul>
+ *     <li>KIS 실시간 체결 구독 등 실제 피드와 로컬 시뮬레이터가 같은 인터페이스로 교체 가능</li>
+ *     <li>consumer는 여러 스레드에서 동시에 호출될 수 있어야 함</li>
+ * </ul>
+ */
+public interface TickSource {
+
+    String name();
+
+    /**
+     * 실 거래 데이터가 아닌 합성 틱인지 여부 (합성 봉은 기본적으로 DB에 저장하지 않음)
+     */
+    boolean synthetic();
+
+    void start(Consumer<StockTick> consumer);
+
+    void stop();
+}
@@ -0,0 +1,85 @@
+package com.fimatchplus.backend.stock.util;
+
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * 차트 봉 단위
+ * <ul>
+ *     <li>분/시간 봉은 1분봉(1m), 일 이상 봉은 일봉(1d)에서 집계</li>
+ *     <li>주봉은 월요일, 월봉은 1일, 연봉은 1월 1일 (KST 달력 기준) 시작</li>
+ * </ul>
+ */
+public enum BarInterval {
+
+    MINUTE_1("1m", 60_000L),
+    MINUTE_3("3m", 3 * 60_000L),
+    MINUTE_5("5m", 5 * 60_000L),
+    MINUTE_10("10m", 10 * 60_000L),
+    MINUTE_15("15m", 15 * 60_000L),
+    MINUTE_30("30m", 30 * 60_000L),
+    HOUR_1("1h", 60 * 60_000L),
+    DAY("1d", 0L),
+    WEEK("1W", 0L),
+    MONTH("1M", 0L),
+    YEAR("1Y", 0L);
+
+    private static final long DAY_MILLIS = 86_400_000L;
+
+    private final String code;
+    private final long fixedMillis;
+
+    BarInterval(String code, long fixedMillis) {
+        this.code = code;
+        this.fixedMillis = fixedMillis;
+    }
+
+    public static Optional<BarInterval> fromCode(String code) {
+        return Arrays.stream(values())
+                .filter(interval -> interval.code.equals(code))
+                .findFirst();
+    }
+
+    public String code() {
+        return code;
+    }
+
+    /**
+     * 이 봉을 만들 때 사용하는 저장 단위 (1m 또는 1d)
+     */
+    public BarInterval base() {
+        return fixedMillis > 0 ? MINUTE_1 : DAY;
+    }
+
+    /**
+     * 분/시간 봉의 고정 길이 (일 단위 이상은 0)
+     */
+    public long fixedMillis() {
+        return fixedMillis;
+    }
+
+    public boolean isBase() {
+        return this == MINUTE_1 || this == DAY;
+    }
+
+    /**
+     * 시각이 속한 봉의 시작 시각 (epoch millis)
+     * 일 단위 이상은 epoch day 계산만으로 처리하고, 월/연 봉만 LocalDate를 사용
+     */
+    public long bucketStart(long epochMillis) {
+        if (fixedMillis > 0) {
+            return Math.floorDiv(epochMillis, fixedMillis) * fixedMillis;
+        }
+
+        long epochDay = Math.floorDiv(epochMillis, DAY_MILLIS);
+        return switch (this) {
+            case DAY -> epochDay * DAY_MILLIS;
+            // 1970-01-01은 목요일이므로 (epochDay + 3) mod 7 == 0 이 월요일
+            case WEEK -> (epochDay - Math.floorMod(epochDay + 3, 7)) * DAY_MILLIS;
+            case MONTH -> LocalDate.ofEpochDay(epochDay).withDayOfMonth(1).toEpochDay() * DAY_MILLIS;
+            case YEAR -> LocalDate.ofEpochDay(epochDay).withDayOfYear(1).toEpochDay() * DAY_MILLIS;
+            default -> throw new IllegalStateException("Unexpected interval: " + code);
+        };
+    }
+}
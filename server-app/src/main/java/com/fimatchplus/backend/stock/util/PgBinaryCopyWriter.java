@@ -0,0 +1,131 @@
+package com.fimatchplus.backend.stock.util;
+
+import org.postgresql.copy.CopyIn;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * PostgreSQL COPY ... FROM STDIN (FORMAT binary) 스트림 인코더
+ * <ul>
+ *     <li>고정 크기 버퍼에 행을 인코딩하고, 버퍼가 차면 CopyIn으로 전송 (메모리 사용량이 행 수와 무관)</li>
+ *     <li>필드마다 남은 공간을 확인하므로 행이 버퍼 경계에 걸쳐도 되며, 버퍼보다 큰 text는 버퍼를 거치지 않고 바로 전송</li>
+ *     <li>지원 타입: text, timestamp(without time zone), float8, int8 - numeric 변환은 병합 SQL에서 수행</li>
+ * </ul>
+ */
+public final class PgBinaryCopyWriter {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+    // PostgreSQL timestamp 기준 시각(2000-01-01 00:00:00)과 Unix epoch의 차이 (마이크로초)
+    private static final long PG_EPOCH_OFFSET_MICROS = 946_684_800_000_000L;
+    private static final int DEFAULT_BUFFER_BYTES = 64 * 1024;
+
+    private final CopyIn copyIn;
+    private final ByteBuffer buffer;
+    private long rows;
+
+    public PgBinaryCopyWriter(CopyIn copyIn) {
+        this(copyIn, DEFAULT_BUFFER_BYTES);
+    }
+
+    public PgBinaryCopyWriter(CopyIn copyIn, int bufferBytes) {
+        this.copyIn = copyIn;
+        this.buffer = ByteBuffer.allocate(Math.max(bufferBytes, 1024));
+        buffer.put(SIGNATURE).putInt(0).putInt(0);
+    }
+
+    /**
+     * 새 행 시작
+     *
+     * @param fieldCount 행의 컬럼 수
+     */
+    public PgBinaryCopyWriter startRow(int fieldCount) throws SQLException {
+        ensureRemaining(Short.BYTES);
+        buffer.putShort((short) fieldCount);
+        rows++;
+        return this;
+    }
+
+    public PgBinaryCopyWriter text(String value) throws SQLException {
+        if (value == null) {
+            return nullValue();
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(bytes.length);
+        if (bytes.length > buffer.capacity()) {
+            flush();
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            return this;
+        }
+        ensureRemaining(bytes.length);
+        buffer.put(bytes);
+        return this;
+    }
+
+    public PgBinaryCopyWriter timestamp(LocalDateTime value) throws SQLException {
+        if (value == null) {
+            return nullValue();
+        }
+        long epochMicros = value.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + value.getNano() / 1_000;
+        ensureRemaining(Integer.BYTES + Long.BYTES);
+        buffer.putInt(Long.BYTES).putLong(epochMicros - PG_EPOCH_OFFSET_MICROS);
+        return this;
+    }
+
+    public PgBinaryCopyWriter float8(Double value) throws SQLException {
+        if (value == null) {
+            return nullValue();
+        }
+        ensureRemaining(Integer.BYTES + Double.BYTES);
+        buffer.putInt(Double.BYTES).putDouble(value);
+        return this;
+    }
+
+    public PgBinaryCopyWriter int8(Long value) throws SQLException {
+        if (value == null) {
+            return nullValue();
+        }
+        ensureRemaining(Integer.BYTES + Long.BYTES);
+        buffer.putInt(Long.BYTES).putLong(value);
+        return this;
+    }
+
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * 트레일러 전송 후 COPY 종료
+     *
+     * @return 서버가 반영한 행 수
+     */
+    public long finish() throws SQLException {
+        ensureRemaining(Short.BYTES);
+        buffer.putShort((short) -1);
+        flush();
+        return copyIn.endCopy();
+    }
+
+    private PgBinaryCopyWriter nullValue() throws SQLException {
+        ensureRemaining(Integer.BYTES);
+        buffer.putInt(-1);
+        return this;
+    }
+
+    private void ensureRemaining(int bytes) throws SQLException {
+        if (buffer.remaining() < bytes) {
+            flush();
+        }
+    }
+
+    private void flush() throws SQLException {
+        if (buffer.position() > 0) {
+            copyIn.writeToCopy(buffer.array(), 0, buffer.position());
+            buffer.clear();
+        }
+    }
+}
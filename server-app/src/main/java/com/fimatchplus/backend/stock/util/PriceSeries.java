@@ -0,0 +1,277 @@
+package com.fimatchplus.backend.stock.util;
+
+import com.fimatchplus.backend.stock.domain.StockPrice;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 시간 오름차순 OHLCV 시계열 (열 단위 primitive 배열)
+ * <ul>
+ *     <li>시각은 stock_prices.datetime(KST 기준 로컬 시각)을 UTC로 간주한 epoch millis - 차트 응답과 동일한 표현</li>
+ *     <li>배열은 생성 후 변경하지 않음</li>
+ * </ul>
+ */
+public final class PriceSeries {
+
+    private static final PriceSeries EMPTY = new PriceSeries(new long[0], new double[0], new double[0], new double[0], new double[0], new long[0], 0);
+
+    private final long[] times;
+    private final double[] open;
+    private final double[] high;
+    private final double[] low;
+    private final double[] close;
+    private final long[] volume;
+    private final int size;
+
+    PriceSeries(long[] times, double[] open, double[] high, double[] low, double[] close, long[] volume, int size) {
+        this.times = times;
+        this.open = open;
+        this.high = high;
+        this.low = low;
+        this.close = close;
+        this.volume = volume;
+        this.size = size;
+    }
+
+    public static PriceSeries empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 저장된 가격 행으로 시계열 생성 (조회 순서와 무관하게 시간 오름차순으로 정렬)
+     */
+    public static PriceSeries fromStockPrices(List<StockPrice> prices) {
+        int n = prices.size();
+        if (n == 0) {
+            return EMPTY;
+        }
+
+        boolean descending = n > 1 && prices.get(0).getDatetime().isAfter(prices.get(n - 1).getDatetime());
+        Builder builder = new Builder(n);
+        for (int i = 0; i < n; i++) {
+            StockPrice price = prices.get(descending ? n - 1 - i : i);
+            double closePrice = price.getClosePrice() != null ? price.getClosePrice().doubleValue() : 0.0;
+            builder.add(
+                    toEpochMillis(price.getDatetime()),
+                    price.getOpenPrice() != null ? price.getOpenPrice().doubleValue() : closePrice,
+                    price.getHighPrice() != null ? price.getHighPrice().doubleValue() : closePrice,
+                    price.getLowPrice() != null ? price.getLowPrice().doubleValue() : closePrice,
+                    closePrice,
+                    price.getVolume() != null ? price.getVolume() : 0L
+            );
+        }
+        return builder.build();
+    }
+
+    public static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    public static LocalDateTime toLocalDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneOffset.UTC);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long time(int i) {
+        return times[i];
+    }
+
+    public double open(int i) {
+        return open[i];
+    }
+
+    public double high(int i) {
+        return high[i];
+    }
+
+    public double low(int i) {
+        return low[i];
+    }
+
+    public double close(int i) {
+        return close[i];
+    }
+
+    public long volume(int i) {
+        return volume[i];
+    }
+
+    public long firstTime() {
+        return times[0];
+    }
+
+    public long lastTime() {
+        return times[size - 1];
+    }
+
+    /**
+     * 시각이 time 이상인 첫 인덱스 (이진 탐색, 없으면 size)
+     */
+    public int lowerBound(long time) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[mid] < time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * 시각이 time 초과인 첫 인덱스 (이진 탐색, 없으면 size)
+     */
+    public int upperBound(long time) {
+        int lo = 0;
+        int hi = size;
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+            if (times[mid] <= time) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+        return lo;
+    }
+
+    /**
+     * [fromTime, toTime] 구간 (양 끝 포함)
+     */
+    public PriceSeries between(long fromTime, long toTime) {
+        int from = lowerBound(fromTime);
+        int to = upperBound(toTime);
+        if (from == 0 && to == size) {
+            return this;
+        }
+        return slice(from, to);
+    }
+
+    /**
+     * 뒤에 이어지는 시계열을 병합한 새 시계열
+     * tail의 첫 시각 이후 기존 봉은 tail 값으로 대체 (진행 중인 마지막 봉 갱신)
+     */
+    public PriceSeries merge(PriceSeries tail) {
+        if (tail.isEmpty()) {
+            return this;
+        }
+        if (isEmpty()) {
+            return tail;
+        }
+
+        int keep = lowerBound(tail.firstTime());
+        Builder builder = new Builder(keep + tail.size());
+        for (int i = 0; i < keep; i++) {
+            builder.add(times[i], open[i], high[i], low[i], close[i], volume[i]);
+        }
+        for (int i = 0; i < tail.size; i++) {
+            builder.add(tail.times[i], tail.open[i], tail.high[i], tail.low[i], tail.close[i], tail.volume[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 마지막 count개 구간 (배열 복사)
+     */
+    public PriceSeries tail(int count) {
+        if (count >= size) {
+            return this;
+        }
+        if (count <= 0) {
+            return EMPTY;
+        }
+        return slice(size - count, size);
+    }
+
+    /**
+     * [from, to) 구간 (배열 복사)
+     */
+    public PriceSeries slice(int from, int to) {
+        int n = to - from;
+        if (n <= 0) {
+            return EMPTY;
+        }
+        Builder builder = new Builder(n);
+        for (int i = from; i < to; i++) {
+            builder.add(times[i], open[i], high[i], low[i], close[i], volume[i]);
+        }
+        return builder.build();
+    }
+
+    /**
+     * 시간 오름차순으로 한 봉씩 추가하는 빌더 (build 이후에는 재사용하지 않음)
+     */
+    public static final class Builder {
+
+        private long[] times;
+        private double[] open;
+        private double[] high;
+        private double[] low;
+        private double[] close;
+        private long[] volume;
+        private int size;
+
+        public Builder(int initialCapacity) {
+            int capacity = Math.max(initialCapacity, 4);
+            this.times = new long[capacity];
+            this.open = new double[capacity];
+            this.high = new double[capacity];
+            this.low = new double[capacity];
+            this.close = new double[capacity];
+            this.volume = new long[capacity];
+        }
+
+        public Builder add(long time, double openPrice, double highPrice, double lowPrice, double closePrice, long vol) {
+            if (size == times.length) {
+                grow();
+            }
+            times[size] = time;
+            open[size] = openPrice;
+            high[size] = highPrice;
+            low[size] = lowPrice;
+            close[size] = closePrice;
+            volume[size] = vol;
+            size++;
+            return this;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public PriceSeries build() {
+            if (size == 0) {
+                return EMPTY;
+            }
+            if (size < times.length) {
+                return new PriceSeries(Arrays.copyOf(times, size), Arrays.copyOf(open, size), Arrays.copyOf(high, size),
+                        Arrays.copyOf(low, size), Arrays.copyOf(close, size), Arrays.copyOf(volume, size), size);
+            }
+            return new PriceSeries(times, open, high, low, close, volume, size);
+        }
+
+        private void grow() {
+            int capacity = times.length * 2;
+            times = Arrays.copyOf(times, capacity);
+            open = Arrays.copyOf(open, capacity);
+            high = Arrays.copyOf(high, capacity);
+            low = Arrays.copyOf(low, capacity);
+            close = Arrays.copyOf(close, capacity);
+            volume = Arrays.copyOf(volume, capacity);
+        }
+    }
+}
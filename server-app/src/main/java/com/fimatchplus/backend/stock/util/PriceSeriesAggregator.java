@@ -0,0 +1,95 @@
+package com.fimatchplus.backend.stock.util;
+
+/**
+ * OHLCV 시계열 집계 / 다운샘플링
+ * <ul>
+ *     <li>aggregate: 기준 시계열(1m/1d)을 임의 봉 단위로 묶음 (시가=첫 봉, 종가=마지막 봉, 고가/저가=극값, 거래량=합)</li>
+ *     <li>downsample: 연속 구간을 같은 방식으로 병합해 최대 maxPoints개로 축소 - 구간별 고가/저가가 유지되므로 급등락이 사라지지 않음</li>
+ *     <li>입력은 시간 오름차순, 한 번의 순차 스캔으로 처리</li>
+ * </ul>
+ */
+public final class PriceSeriesAggregator {
+
+    private PriceSeriesAggregator() {
+    }
+
+    public static PriceSeries aggregate(PriceSeries source, BarInterval interval) {
+        int n = source.size();
+        if (n == 0 || interval.isBase() && isAligned(source, interval)) {
+            return source;
+        }
+
+        PriceSeries.Builder builder = new PriceSeries.Builder(estimateBars(source, interval));
+        long bucket = interval.bucketStart(source.time(0));
+        int start = 0;
+        for (int i = 1; i < n; i++) {
+            long next = interval.bucketStart(source.time(i));
+            if (next != bucket) {
+                merge(source, start, i, bucket, builder);
+                bucket = next;
+                start = i;
+            }
+        }
+        merge(source, start, n, bucket, builder);
+        return builder.build();
+    }
+
+    /**
+     * 최대 maxPoints개가 되도록 인접 봉을 균등 개수로 병합
+     */
+    public static PriceSeries downsample(PriceSeries source, int maxPoints) {
+        int n = source.size();
+        if (maxPoints <= 0 || n <= maxPoints) {
+            return source;
+        }
+
+        PriceSeries.Builder builder = new PriceSeries.Builder(maxPoints);
+        for (int b = 0; b < maxPoints; b++) {
+            int from = (int) ((long) b * n / maxPoints);
+            int to = (int) ((long) (b + 1) * n / maxPoints);
+            if (from < to) {
+                merge(source, from, to, source.time(from), builder);
+            }
+        }
+        return builder.build();
+    }
+
+    private static void merge(PriceSeries source, int from, int to, long time, PriceSeries.Builder builder) {
+        double high = source.high(from);
+        double low = source.low(from);
+        long volume = 0L;
+        for (int i = from; i < to; i++) {
+            high = Math.max(high, source.high(i));
+            low = Math.min(low, source.low(i));
+            volume += source.volume(i);
+        }
+        builder.add(time, source.open(from), high, low, source.close(to - 1), volume);
+    }
+
+    /**
+     * 기준 단위 시계열이 이미 봉 시작 시각에 정렬되어 있고 중복이 없으면 집계 생략
+     * (봉 시작 시각이 아닌 행이 하나라도 있으면 시각을 내림해야 하므로 집계)
+     */
+    private static boolean isAligned(PriceSeries source, BarInterval interval) {
+        long previous = Long.MIN_VALUE;
+        for (int i = 0; i < source.size(); i++) {
+            long time = source.time(i);
+            long bucket = interval.bucketStart(time);
+            if (bucket != time || bucket == previous) {
+                return false;
+            }
+            previous = bucket;
+        }
+        return true;
+    }
+
+    private static int estimateBars(PriceSeries source, BarInterval interval) {
+        return switch (interval) {
+            case WEEK -> source.size() / 5 + 2;
+            case MONTH -> source.size() / 20 + 2;
+            case YEAR -> source.size() / 240 + 2;
+            case DAY, MINUTE_1 -> source.size();
+            default -> (int) (source.size() * BarInterval.MINUTE_1.fixedMillis() / interval.fixedMillis()) + 2;
+        };
+    }
+}
@@ -0,0 +1,176 @@
+package com.fimatchplus.backend.portfolio.service;
+
+import com.fimatchplus.backend.common.service.MarketSessionTtlPolicy;
+import com.fimatchplus.backend.portfolio.domain.Holding;
+import com.fimatchplus.backend.portfolio.event.PortfolioCreatedEvent;
+import com.fimatchplus.backend.portfolio.event.PortfolioDeletedEvent;
+import com.fimatchplus.backend.portfolio.repository.PortfolioRepository;
+import com.fimatchplus.backend.stock.domain.PriceChangeSign;
+import com.fimatchplus.backend.stock.event.StockQuotesUpdatedEvent;
+import com.fimatchplus.backend.stock.service.KisQuote;
+import com.fimatchplus.backend.stock.service.StockService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PortfolioValuationEngineTest {
+
+    private static final Long USER_ID = 7L;
+    private static final Long GROWTH = 1L;
+    private static final Long INCOME = 2L;
+
+    private final PortfolioRepository portfolioRepository = mock(PortfolioRepository.class);
+    private final MarketSessionTtlPolicy ttlPolicy = mock(MarketSessionTtlPolicy.class);
+    private final PortfolioCalculator calculator = new PortfolioCalculator();
+
+    private final List<Holding> growthHoldings = List.of(
+            holding(GROWTH, "005930", 10, 700_000),
+            holding(GROWTH, "000660", 3, 540_000),
+            holding(GROWTH, "035420", 5, 1_000_000));
+    private final List<Holding> incomeHoldings = List.of(
+            holding(INCOME, "005930", 4, 280_000),
+            holding(INCOME, "055550", 20, 900_000));
+
+    private PortfolioValuationEngine engine;
+
+    @BeforeEach
+    void setUp() {
+        when(ttlPolicy.ttl(any(Duration.class))).thenReturn(Duration.ofMinutes(5));
+        when(portfolioRepository.findById(any())).thenReturn(Optional.empty());
+        engine = new PortfolioValuationEngine(portfolioRepository, ttlPolicy, true, 60_000, 100);
+    }
+
+    @Test
+    void quoteDeltasMatchFullRecalculation() {
+        Map<String, StockService.StockPriceInfo> prices = new HashMap<>();
+        prices.put("005930", price(70_000, 500));
+        prices.put("000660", price(180_000, -1_000));
+        prices.put("055550", price(45_000, 0));
+        // 035420은 시세 없음 -> 저장된 평가액 사용
+        engine.register(USER_ID, Map.of(GROWTH, growthHoldings, INCOME, incomeHoldings), prices, engine.version());
+
+        engine.onQuotesUpdated(new StockQuotesUpdatedEvent(Map.of(
+                "005930", quote("005930", 71_200, 1_700),
+                "035420", quote("035420", 210_000, -3_000))));
+        prices.put("005930", price(71_200, 1_700));
+        prices.put("035420", price(210_000, -3_000));
+
+        Map<Long, PortfolioValuationEngine.PortfolioValuation> valuations =
+                engine.portfolioValuations(List.of(GROWTH, INCOME)).orElseThrow();
+        assertMatches(valuations.get(GROWTH), calculator.calculateTotals(growthHoldings, prices));
+        assertMatches(valuations.get(INCOME), calculator.calculateTotals(incomeHoldings, prices));
+        assertThat(valuations.get(GROWTH).stale()).isFalse();
+
+        PortfolioCalculator.PortfolioTotals growth = calculator.calculateTotals(growthHoldings, prices);
+        PortfolioCalculator.PortfolioTotals income = calculator.calculateTotals(incomeHoldings, prices);
+        PortfolioValuationEngine.Totals totals = engine.userTotals(USER_ID).orElseThrow();
+        assertThat(totals.totalAssets()).isCloseTo(growth.totalAssets() + income.totalAssets(), within(1e-6));
+        assertThat(totals.dailyChange()).isCloseTo(growth.dailyChange() + income.dailyChange(), within(1e-6));
+    }
+
+    @Test
+    void ignoresStaleQuotes() {
+        Map<String, StockService.StockPriceInfo> prices = Map.of(
+                "005930", price(70_000, 500),
+                "055550", price(45_000, 0));
+        engine.register(USER_ID, Map.of(INCOME, incomeHoldings), prices, engine.version());
+
+        engine.onQuotesUpdated(new StockQuotesUpdatedEvent(Map.of(
+                "005930", quote("005930", 1, -69_999).asStale())));
+
+        PortfolioValuationEngine.PortfolioValuation valuation =
+                engine.portfolioValuations(List.of(INCOME)).orElseThrow().get(INCOME);
+        assertMatches(valuation, calculator.calculateTotals(incomeHoldings, prices));
+    }
+
+    @Test
+    void marksValuationStaleWhenHoldingHasNoPrice() {
+        engine.register(USER_ID, Map.of(GROWTH, growthHoldings), Map.of(), engine.version());
+
+        assertThat(engine.userTotals(USER_ID).orElseThrow().stale()).isTrue();
+        assertThat(engine.userTotals(USER_ID).orElseThrow().totalAssets()).isEqualTo(2_240_000.0);
+    }
+
+    @Test
+    void discardsRegistrationWhenPortfolioChangedWhileLoading() {
+        long loadedVersion = engine.version();
+        engine.onPortfolioChanged(new PortfolioCreatedEvent(GROWTH));
+
+        Map<Long, PortfolioValuationEngine.PortfolioValuation> computed =
+                engine.register(USER_ID, Map.of(GROWTH, growthHoldings), Map.of(), loadedVersion);
+
+        assertThat(computed).containsKey(GROWTH);
+        assertThat(engine.userTotals(USER_ID)).isEmpty();
+        assertThat(engine.portfolioValuations(List.of(GROWTH))).isEmpty();
+    }
+
+    @Test
+    void evictsOnPortfolioChangeAndDelete() {
+        engine.register(USER_ID, Map.of(GROWTH, growthHoldings, INCOME, incomeHoldings), Map.of(), engine.version());
+
+        engine.onPortfolioChanged(new PortfolioCreatedEvent(GROWTH));
+        assertThat(engine.userTotals(USER_ID)).isEmpty();
+        assertThat(engine.portfolioValuations(List.of(INCOME))).isPresent();
+
+        engine.onPortfolioDeleted(new PortfolioDeletedEvent(INCOME, USER_ID));
+        assertThat(engine.portfolioValuations(List.of(INCOME))).isEmpty();
+    }
+
+    @Test
+    void expiredValuationsAreMissesAndEvicted() {
+        when(ttlPolicy.ttl(any(Duration.class))).thenReturn(Duration.ofMillis(-1));
+        engine.register(USER_ID, Map.of(GROWTH, growthHoldings), Map.of(), engine.version());
+
+        assertThat(engine.userTotals(USER_ID)).isEmpty();
+
+        engine.evictExpired();
+        when(ttlPolicy.ttl(any(Duration.class))).thenReturn(Duration.ofMinutes(5));
+        engine.register(USER_ID, Map.of(INCOME, incomeHoldings), Map.of(), engine.version());
+        assertThat(engine.portfolioValuations(List.of(GROWTH))).isEmpty();
+        assertThat(engine.userTotals(USER_ID)).isPresent();
+    }
+
+    @Test
+    void returnsComputedValuationWithoutCachingWhenDisabled() {
+        PortfolioValuationEngine disabled = new PortfolioValuationEngine(portfolioRepository, ttlPolicy, false, 60_000, 100);
+
+        Map<Long, PortfolioValuationEngine.PortfolioValuation> computed =
+                disabled.register(USER_ID, Map.of(GROWTH, growthHoldings), Map.of(), disabled.version());
+
+        assertThat(computed.get(GROWTH).totalAssets()).isEqualTo(2_240_000.0);
+        assertThat(disabled.userTotals(USER_ID)).isEmpty();
+    }
+
+    private static void assertMatches(PortfolioValuationEngine.PortfolioValuation valuation,
+                                      PortfolioCalculator.PortfolioTotals expected) {
+        assertThat(valuation.totalAssets()).isCloseTo(expected.totalAssets(), within(1e-6));
+        assertThat(valuation.dailyChange()).isCloseTo(expected.dailyChange(), within(1e-6));
+        assertThat(valuation.dailyReturnPercent()).isCloseTo(expected.dailyReturnPercent(), within(1e-9));
+    }
+
+    private static Holding holding(Long portfolioId, String symbol, int shares, double totalValue) {
+        return Holding.of(null, portfolioId, symbol, shares, totalValue / shares, totalValue, null, null, 0.0, null, null);
+    }
+
+    private static StockService.StockPriceInfo price(double currentPrice, double dailyChangePrice) {
+        double rate = dailyChangePrice / (currentPrice - dailyChangePrice) * 100;
+        return new StockService.StockPriceInfo(currentPrice, rate, dailyChangePrice, PriceChangeSign.FLAT, false);
+    }
+
+    private static KisQuote quote(String ticker, double currentPrice, double change) {
+        double previousClose = currentPrice - change;
+        return new KisQuote(ticker, null, currentPrice, change, change / previousClose * 100, PriceChangeSign.FLAT,
+                previousClose, currentPrice, currentPrice, currentPrice, 0L, 0L, 0.0, System.currentTimeMillis(), false);
+    }
+}
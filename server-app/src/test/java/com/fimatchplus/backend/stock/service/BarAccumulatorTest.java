@@ -0,0 +1,108 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.util.BarInterval;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BarAccumulatorTest {
+
+    private static final long MINUTE = 60_000L;
+    private static final long T0 = 1_699_999_200_000L; // 정시 (5분 구간 경계와 일치)
+
+    @Test
+    void completesPreviousBarWhenNextBucketStarts() {
+        BarAccumulator accumulator = new BarAccumulator("005930", BarInterval.MINUTE_1);
+
+        assertThat(accumulator.onTick(T0 + 1_000, 100.0, 10)).isNull();
+        assertThat(accumulator.onTick(T0 + 20_000, 105.0, 5)).isNull();
+        assertThat(accumulator.onTick(T0 + 40_000, 98.0, 7)).isNull();
+        assertThat(accumulator.onTick(T0 + 59_999, 101.0, 3)).isNull();
+
+        CompletedBar completed = accumulator.onTick(T0 + MINUTE, 102.0, 1);
+
+        assertThat(completed).isEqualTo(new CompletedBar("005930", BarInterval.MINUTE_1, T0, 100.0, 105.0, 98.0, 101.0, 25));
+    }
+
+    @Test
+    void dropsTicksForAlreadyPassedBucket() {
+        BarAccumulator accumulator = new BarAccumulator("005930", BarInterval.MINUTE_1);
+        accumulator.onTick(T0 + 1_000, 100.0, 10);
+        accumulator.onTick(T0 + MINUTE + 1_000, 101.0, 10);
+
+        assertThat(accumulator.onTick(T0 + 30_000, 200.0, 10)).isNull();
+        assertThat(accumulator.lateTicks()).isEqualTo(1);
+
+        CompletedBar completed = accumulator.onTick(T0 + 2 * MINUTE, 102.0, 1);
+        assertThat(completed.startMillis()).isEqualTo(T0 + MINUTE);
+        assertThat(completed.high()).isEqualTo(101.0);
+        assertThat(completed.volume()).isEqualTo(10);
+    }
+
+    @Test
+    void closesEndedBarOnlyOnceAfterGrace() {
+        BarAccumulator accumulator = new BarAccumulator("005930", BarInterval.MINUTE_1);
+        accumulator.onTick(T0 + 1_000, 100.0, 10);
+
+        assertThat(accumulator.closeIfEnded(T0 + MINUTE + 1_000, 2_000)).isNull();
+
+        CompletedBar closed = accumulator.closeIfEnded(T0 + MINUTE + 2_000, 2_000);
+        assertThat(closed).isNotNull();
+        assertThat(closed.startMillis()).isEqualTo(T0);
+        assertThat(accumulator.closeIfEnded(T0 + MINUTE + 3_000, 2_000)).isNull();
+
+        // 완성 후 같은 구간에 늦게 온 틱은 버리고, 다음 구간 첫 틱은 완성 봉을 다시 반환하지 않음
+        assertThat(accumulator.onTick(T0 + 59_000, 100.0, 1)).isNull();
+        assertThat(accumulator.lateTicks()).isEqualTo(1);
+        assertThat(accumulator.onTick(T0 + MINUTE + 5_000, 103.0, 1)).isNull();
+    }
+
+    @Test
+    void keepsEveryTickUnderConcurrentUpdates() throws Exception {
+        BarAccumulator accumulator = new BarAccumulator("005930", BarInterval.MINUTE_5);
+        int threads = 8;
+        int ticksPerThread = 10_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ticksPerThread; i++) {
+                        accumulator.onTick(T0 + (i % 300) * 1_000L, 100.0 + offset, 1);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        CompletedBar completed = accumulator.onTick(T0 + 5 * MINUTE, 100.0, 1);
+
+        assertThat(completed.volume()).isEqualTo((long) threads * ticksPerThread);
+        assertThat(completed.high()).isEqualTo(100.0 + threads - 1);
+        assertThat(completed.low()).isEqualTo(100.0);
+    }
+
+    @Test
+    void rejectsCalendarIntervals() {
+        assertThatThrownBy(() -> new BarAccumulator("005930", BarInterval.DAY))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
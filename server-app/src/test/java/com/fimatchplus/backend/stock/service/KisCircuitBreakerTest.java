@@ -0,0 +1,151 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.common.exception.KisUnavailableException;
+import com.fimatchplus.backend.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KisCircuitBreakerTest {
+
+    private static final long OPEN_MILLIS = 100;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @Test
+    void opensAfterConsecutiveFailuresAndShortCircuits() {
+        KisCircuitBreaker breaker = breaker(3, 60_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> breaker.protect("test", failing()).block())
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.OPEN);
+        assertThat(breaker.isCallNotPermitted()).isTrue();
+        assertThatThrownBy(() -> breaker.protect("test", succeeding()).block())
+                .isInstanceOf(KisUnavailableException.class);
+        assertThat(upstreamCalls).hasValue(3);
+        assertThat(meterRegistry.get("kis.circuit.state").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void successResetsFailureCount() {
+        KisCircuitBreaker breaker = breaker(2, 60_000);
+
+        assertThatThrownBy(() -> breaker.protect("test", failing()).block()).isInstanceOf(IllegalStateException.class);
+        assertThat(breaker.protect("test", succeeding()).block()).isEqualTo("ok");
+        assertThatThrownBy(() -> breaker.protect("test", failing()).block()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void halfOpenProbeSuccessClosesCircuit() throws InterruptedException {
+        KisCircuitBreaker breaker = openedBreaker();
+
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.HALF_OPEN);
+        assertThat(breaker.protect("probe", succeeding()).block()).isEqualTo("ok");
+
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.CLOSED);
+        assertThat(meterRegistry.get("kis.circuit.state").gauge().value()).isEqualTo(0.0);
+    }
+
+    @Test
+    void halfOpenProbeFailureReopensCircuit() throws InterruptedException {
+        KisCircuitBreaker breaker = openedBreaker();
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.HALF_OPEN);
+
+        assertThatThrownBy(() -> breaker.protect("probe", failing()).block()).isInstanceOf(IllegalStateException.class);
+
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.OPEN);
+        assertThatThrownBy(() -> breaker.protect("test", succeeding()).block())
+                .isInstanceOf(KisUnavailableException.class);
+        assertThat(upstreamCalls).hasValue(2);
+    }
+
+    @Test
+    void allowsSingleProbeWhileHalfOpen() throws InterruptedException {
+        KisCircuitBreaker breaker = openedBreaker();
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.HALF_OPEN);
+
+        Disposable subscription = breaker.protect("probe", Mono.<String>never()).subscribe(value -> { }, error -> { });
+        try {
+            assertThat(breaker.isCallNotPermitted()).isTrue();
+            assertThatThrownBy(() -> breaker.protect("second", succeeding()).block())
+                    .isInstanceOf(KisUnavailableException.class);
+        } finally {
+            subscription.dispose();
+        }
+        assertThat(upstreamCalls).hasValue(1);
+    }
+
+    @Test
+    void ignoresRateLimiterRejections() {
+        KisCircuitBreaker breaker = breaker(1, 60_000);
+
+        assertThatThrownBy(() -> breaker.protect("test", Mono.error(new RateLimitExceededException("wait exceeded"))).block())
+                .isInstanceOf(RateLimitExceededException.class);
+
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    void countsSlowCallsAsFailures() {
+        KisCircuitBreaker breaker = new KisCircuitBreaker(new KisMetrics(meterRegistry), true, 1, 60_000, 20);
+
+        assertThatThrownBy(() -> breaker.protect("slow", Mono.never()).block())
+                .hasRootCauseInstanceOf(TimeoutException.class);
+
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.OPEN);
+    }
+
+    @Test
+    void passesThroughWhenDisabled() {
+        KisCircuitBreaker breaker = new KisCircuitBreaker(new KisMetrics(meterRegistry), false, 1, 60_000, 3_000);
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> breaker.protect("test", failing()).block()).isInstanceOf(IllegalStateException.class);
+        }
+
+        assertThat(breaker.isCallNotPermitted()).isFalse();
+        assertThat(breaker.protect("test", succeeding()).block()).isEqualTo("ok");
+    }
+
+    /**
+     * 실패 1회로 OPEN 전환 후 차단 시간이 지난 브레이커
+     */
+    private KisCircuitBreaker openedBreaker() throws InterruptedException {
+        KisCircuitBreaker breaker = breaker(1, OPEN_MILLIS);
+        assertThatThrownBy(() -> breaker.protect("test", failing()).block()).isInstanceOf(IllegalStateException.class);
+        assertThat(breaker.state()).isEqualTo(KisCircuitBreaker.State.OPEN);
+        Thread.sleep(OPEN_MILLIS + 50);
+        return breaker;
+    }
+
+    private KisCircuitBreaker breaker(int failureThreshold, long openDurationMillis) {
+        return new KisCircuitBreaker(new KisMetrics(meterRegistry), true, failureThreshold, openDurationMillis, 3_000);
+    }
+
+    private Mono<String> succeeding() {
+        return Mono.fromCallable(() -> {
+            upstreamCalls.incrementAndGet();
+            return "ok";
+        });
+    }
+
+    private Mono<String> failing() {
+        return Mono.fromCallable(() -> {
+            upstreamCalls.incrementAndGet();
+            throw new IllegalStateException("upstream error");
+        });
+    }
+}
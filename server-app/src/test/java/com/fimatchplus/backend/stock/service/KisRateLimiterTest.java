@@ -0,0 +1,107 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.common.exception.RateLimitExceededException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.ReactiveStringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class KisRateLimiterTest {
+
+    private static final List<String> BUCKET = List.of("kis:ratelimit:bucket");
+
+    private final ReactiveStringRedisTemplate redisTemplate = mock(ReactiveStringRedisTemplate.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void passesLaneReserveToBucketScript() {
+        givenScriptReturns(0L);
+        KisRateLimiter limiter = limiter(true, 300);
+
+        for (KisCallPriority priority : KisCallPriority.values()) {
+            limiter.acquire(priority).block(Duration.ofSeconds(1));
+        }
+
+        verify(redisTemplate).execute(anyScript(), eq(BUCKET), eq(List.of("20", "18.0", "0.0")));
+        verify(redisTemplate).execute(anyScript(), eq(BUCKET), eq(List.of("20", "18.0", "4.0")));
+        verify(redisTemplate).execute(anyScript(), eq(BUCKET), eq(List.of("20", "18.0", "10.0")));
+        assertThat(meterRegistry.get("kis.ratelimit.wait").tag("lane", "interactive").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void retriesUntilTokenIsAvailable() {
+        givenScriptReturns(20L, 20L, 0L);
+        KisRateLimiter limiter = limiter(true, 1_000);
+
+        limiter.acquire(KisCallPriority.VALUATION).block(Duration.ofSeconds(2));
+
+        verify(redisTemplate, times(3)).execute(anyScript(), anyList(), anyList());
+        assertThat(meterRegistry.get("kis.ratelimit.wait").tag("lane", "valuation").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("kis.ratelimit.rejected").tag("lane", "valuation").counter().count()).isZero();
+    }
+
+    @Test
+    void rejectsWhenMaxWaitExceeded() {
+        givenScriptReturns(1_000L);
+        KisRateLimiter limiter = limiter(true, 50);
+
+        assertThatThrownBy(() -> limiter.acquire(KisCallPriority.BACKGROUND).block(Duration.ofSeconds(2)))
+                .isInstanceOf(RateLimitExceededException.class);
+
+        assertThat(meterRegistry.get("kis.ratelimit.rejected").tag("lane", "background").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void allowsCallWhenRedisFails() {
+        when(redisTemplate.execute(anyScript(), anyList(), anyList()))
+                .thenReturn(Flux.error(new IllegalStateException("redis down")));
+        KisRateLimiter limiter = limiter(true, 300);
+
+        limiter.acquire(KisCallPriority.INTERACTIVE).block(Duration.ofSeconds(1));
+
+        verify(redisTemplate).execute(anyScript(), anyList(), anyList());
+    }
+
+    @Test
+    void skipsRedisWhenDisabled() {
+        KisRateLimiter limiter = limiter(false, 300);
+
+        limiter.acquire(KisCallPriority.BACKGROUND).block(Duration.ofSeconds(1));
+
+        verifyNoInteractions(redisTemplate);
+    }
+
+    private KisRateLimiter limiter(boolean enabled, long maxWaitMillis) {
+        return new KisRateLimiter(redisTemplate, meterRegistry, enabled, 20, 18, 0.2, 0.5,
+                maxWaitMillis, maxWaitMillis, maxWaitMillis);
+    }
+
+    private void givenScriptReturns(Long first, Long... rest) {
+        Flux<Long> firstResult = Flux.just(first);
+        @SuppressWarnings("unchecked")
+        Flux<Long>[] restResults = new Flux[rest.length];
+        for (int i = 0; i < rest.length; i++) {
+            restResults[i] = Flux.just(rest[i]);
+        }
+        when(redisTemplate.execute(anyScript(), anyList(), anyList())).thenReturn(firstResult, restResults);
+    }
+
+    private static RedisScript<Long> anyScript() {
+        return any();
+    }
+}
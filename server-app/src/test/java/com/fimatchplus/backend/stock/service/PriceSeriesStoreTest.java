@@ -0,0 +1,75 @@
+package com.fimatchplus.backend.stock.service;
+
+import com.fimatchplus.backend.stock.repository.StockPriceSeriesRepository;
+import com.fimatchplus.backend.stock.util.PriceSeries;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PriceSeriesStoreTest {
+
+    private static final String TICKER = "005930";
+    private static final String MINUTE = "1m";
+    private static final LocalDateTime OPEN = LocalDate.now().atTime(9, 0);
+    private static final LocalDateTime FROM = OPEN.minusDays(1);
+    private static final LocalDateTime TO = OPEN.plusDays(1);
+
+    private final StockPriceSeriesRepository seriesRepository = mock(StockPriceSeriesRepository.class);
+    private final PriceArchive priceArchive = mock(PriceArchive.class);
+    // refresh 주기 0: 조회할 때마다 마지막 봉 이후 tail 재조회
+    private final PriceSeriesStore store = new PriceSeriesStore(seriesRepository, priceArchive, true, 1 << 20, 400, 7, 0);
+
+    @Test
+    void keepsBarsAppendedWhileTailRefreshIsRunning() {
+        when(seriesRepository.findSince(eq(TICKER), eq(MINUTE), any()))
+                .thenReturn(bars(0, 1))
+                .thenAnswer(invocation -> {
+                    store.append(TICKER, MINUTE, bars(2, 3));
+                    return bars(1);
+                });
+
+        store.range(TICKER, MINUTE, FROM, TO);
+        PriceSeries refreshed = store.range(TICKER, MINUTE, FROM, TO).orElseThrow();
+
+        assertThat(refreshed.size()).isEqualTo(4);
+        assertThat(refreshed.lastTime()).isEqualTo(millis(3));
+    }
+
+    @Test
+    void discardsLoadStartedBeforeInvalidate() {
+        when(seriesRepository.findSince(eq(TICKER), eq(MINUTE), any()))
+                .thenAnswer(invocation -> {
+                    store.invalidate(TICKER);
+                    return bars(0);
+                })
+                .thenReturn(bars(0, 1));
+
+        assertThat(store.range(TICKER, MINUTE, FROM, TO).orElseThrow().size()).isEqualTo(1);
+        assertThat(store.usedBytes()).isZero();
+
+        assertThat(store.range(TICKER, MINUTE, FROM, TO).orElseThrow().size()).isEqualTo(2);
+        verify(seriesRepository, times(2)).findSince(eq(TICKER), eq(MINUTE), eq(LocalDate.now().minusDays(7).atStartOfDay()));
+    }
+
+    private static PriceSeries bars(int... minutes) {
+        PriceSeries.Builder builder = new PriceSeries.Builder(minutes.length);
+        for (int minute : minutes) {
+            double price = 100 + minute;
+            builder.add(millis(minute), price, price, price, price, 10);
+        }
+        return builder.build();
+    }
+
+    private static long millis(int minute) {
+        return PriceSeries.toEpochMillis(OPEN.plusMinutes(minute));
+    }
+}
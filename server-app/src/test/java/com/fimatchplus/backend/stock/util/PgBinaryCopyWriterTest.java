@@ -0,0 +1,130 @@
+package com.fimatchplus.backend.stock.util;
+
+import org.junit.jupiter.api.Test;
+import org.postgresql.copy.CopyIn;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PgBinaryCopyWriterTest {
+
+    private static final byte[] SIGNATURE = {'P', 'G', 'C', 'O', 'P', 'Y', '\n', (byte) 0xFF, '\r', '\n', 0};
+
+    private final ByteArrayOutputStream written = new ByteArrayOutputStream();
+    private final List<Integer> chunkSizes = new ArrayList<>();
+    private final CopyIn copyIn = mock(CopyIn.class);
+
+    PgBinaryCopyWriterTest() throws SQLException {
+        doAnswer(invocation -> {
+            byte[] bytes = invocation.getArgument(0);
+            int offset = invocation.getArgument(1);
+            int length = invocation.getArgument(2);
+            written.write(bytes, offset, length);
+            chunkSizes.add(length);
+            return null;
+        }).when(copyIn).writeToCopy(any(byte[].class), anyInt(), anyInt());
+    }
+
+    @Test
+    void encodesHeaderRowAndTrailer() throws SQLException {
+        when(copyIn.endCopy()).thenReturn(1L);
+        PgBinaryCopyWriter writer = new PgBinaryCopyWriter(copyIn);
+
+        writer.startRow(5)
+                .text("005930")
+                .timestamp(LocalDateTime.of(2000, 1, 1, 0, 0, 1))
+                .float8(71_500.5)
+                .int8(123L)
+                .float8(null);
+        long copied = writer.finish();
+
+        byte[] code = "005930".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer expected = ByteBuffer.allocate(256)
+                .put(SIGNATURE).putInt(0).putInt(0)
+                .putShort((short) 5)
+                .putInt(code.length).put(code)
+                .putInt(8).putLong(1_000_000L)
+                .putInt(8).putDouble(71_500.5)
+                .putInt(8).putLong(123L)
+                .putInt(-1)
+                .putShort((short) -1);
+        assertThat(written.toByteArray()).isEqualTo(bytesOf(expected));
+        assertThat(copied).isEqualTo(1L);
+        assertThat(writer.rows()).isEqualTo(1);
+    }
+
+    @Test
+    void splitsRowsAcrossBufferBoundaryWithoutOverflow() throws SQLException {
+        PgBinaryCopyWriter small = new PgBinaryCopyWriter(copyIn, 1024);
+        writeRows(small, 500);
+        small.finish();
+        byte[] chunked = written.toByteArray();
+        List<Integer> smallChunks = List.copyOf(chunkSizes);
+
+        written.reset();
+        chunkSizes.clear();
+        PgBinaryCopyWriter large = new PgBinaryCopyWriter(copyIn, 1 << 20);
+        writeRows(large, 500);
+        large.finish();
+
+        assertThat(smallChunks.size()).isGreaterThan(1);
+        assertThat(smallChunks).allMatch(size -> size <= 1024);
+        assertThat(chunked).isEqualTo(written.toByteArray());
+    }
+
+    @Test
+    void writesTextLargerThanBufferDirectly() throws SQLException {
+        String longText = "가".repeat(2_000);
+        byte[] bytes = longText.getBytes(StandardCharsets.UTF_8);
+        PgBinaryCopyWriter writer = new PgBinaryCopyWriter(copyIn, 1024);
+
+        writer.startRow(2).text(longText).int8(7L);
+        writer.finish();
+
+        ByteBuffer expected = ByteBuffer.allocate(bytes.length + 64)
+                .put(SIGNATURE).putInt(0).putInt(0)
+                .putShort((short) 2)
+                .putInt(bytes.length).put(bytes)
+                .putInt(8).putLong(7L)
+                .putShort((short) -1);
+        assertThat(written.toByteArray()).isEqualTo(bytesOf(expected));
+        assertThat(chunkSizes).contains(bytes.length);
+    }
+
+    /**
+     * StockPriceCopyRepository와 같은 10개 컬럼 행 (가변 길이 text 포함)
+     */
+    private static void writeRows(PgBinaryCopyWriter writer, int count) throws SQLException {
+        for (int i = 0; i < count; i++) {
+            writer.startRow(10)
+                    .int8((long) i)
+                    .text("A" + i)
+                    .timestamp(LocalDateTime.of(2025, 1, 2, 9, 0).plusMinutes(i))
+                    .text(i % 2 == 0 ? "1m" : "1d")
+                    .float8(100.0 + i)
+                    .float8(101.0 + i)
+                    .float8(99.0 + i)
+                    .float8(100.5 + i)
+                    .int8(1_000L * i)
+                    .float8(i % 3 == 0 ? -0.5 : 0.5);
+        }
+    }
+
+    private static byte[] bytesOf(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.position()];
+        System.arraycopy(buffer.array(), 0, bytes, 0, bytes.length);
+        return bytes;
+    }
+}
@@ -0,0 +1,107 @@
+package com.fimatchplus.backend.stock.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PriceSeriesAggregatorTest {
+
+    private static final LocalDateTime OPEN = LocalDateTime.of(2025, 3, 4, 9, 0);
+
+    @Test
+    void aggregatesMinuteBarsIntoFiveMinuteBars() {
+        PriceSeries.Builder builder = new PriceSeries.Builder(10);
+        for (int i = 0; i < 10; i++) {
+            double price = 100 + i;
+            builder.add(millis(OPEN.plusMinutes(i)), price, price + 0.5, price - 0.5, price + 0.25, 10);
+        }
+
+        PriceSeries bars = PriceSeriesAggregator.aggregate(builder.build(), BarInterval.MINUTE_5);
+
+        assertThat(bars.size()).isEqualTo(2);
+        assertThat(bars.time(0)).isEqualTo(millis(OPEN));
+        assertThat(bars.open(0)).isEqualTo(100.0);
+        assertThat(bars.high(0)).isEqualTo(104.5);
+        assertThat(bars.low(0)).isEqualTo(99.5);
+        assertThat(bars.close(0)).isEqualTo(104.25);
+        assertThat(bars.volume(0)).isEqualTo(50);
+        assertThat(bars.time(1)).isEqualTo(millis(OPEN.plusMinutes(5)));
+        assertThat(bars.open(1)).isEqualTo(105.0);
+        assertThat(bars.close(1)).isEqualTo(109.25);
+    }
+
+    @Test
+    void returnsAlignedBaseSeriesAsIs() {
+        PriceSeries source = new PriceSeries.Builder(3)
+                .add(millis(OPEN), 100, 101, 99, 100, 1)
+                .add(millis(OPEN.plusMinutes(1)), 100, 102, 98, 101, 1)
+                .add(millis(OPEN.plusMinutes(3)), 101, 103, 100, 102, 1)
+                .build();
+
+        assertThat(PriceSeriesAggregator.aggregate(source, BarInterval.MINUTE_1)).isSameAs(source);
+    }
+
+    @Test
+    void floorsBaseSeriesStoredOffBucketStart() {
+        // 장 마감 시각(15:30)으로 저장된 일봉은 자정 기준 봉으로 내림
+        PriceSeries source = new PriceSeries.Builder(2)
+                .add(millis(LocalDateTime.of(2025, 3, 4, 15, 30)), 100, 105, 95, 102, 1_000)
+                .add(millis(LocalDateTime.of(2025, 3, 5, 15, 30)), 102, 106, 101, 104, 2_000)
+                .build();
+
+        PriceSeries days = PriceSeriesAggregator.aggregate(source, BarInterval.DAY);
+
+        assertThat(days).isNotSameAs(source);
+        assertThat(days.size()).isEqualTo(2);
+        assertThat(days.time(0)).isEqualTo(millis(LocalDateTime.of(2025, 3, 4, 0, 0)));
+        assertThat(days.time(1)).isEqualTo(millis(LocalDateTime.of(2025, 3, 5, 0, 0)));
+        assertThat(days.close(1)).isEqualTo(104.0);
+    }
+
+    @Test
+    void startsWeeksOnMonday() {
+        PriceSeries.Builder builder = new PriceSeries.Builder(7);
+        // 2025-03-05(수) ~ 2025-03-11(화)
+        for (int i = 0; i < 7; i++) {
+            builder.add(millis(LocalDateTime.of(2025, 3, 5, 0, 0).plusDays(i)), 100 + i, 100 + i, 100 + i, 100 + i, 1);
+        }
+
+        PriceSeries weeks = PriceSeriesAggregator.aggregate(builder.build(), BarInterval.WEEK);
+
+        assertThat(weeks.size()).isEqualTo(2);
+        assertThat(weeks.time(0)).isEqualTo(millis(LocalDateTime.of(2025, 3, 3, 0, 0)));
+        assertThat(weeks.volume(0)).isEqualTo(5);
+        assertThat(weeks.time(1)).isEqualTo(millis(LocalDateTime.of(2025, 3, 10, 0, 0)));
+        assertThat(weeks.open(1)).isEqualTo(105.0);
+    }
+
+    @Test
+    void downsampleKeepsExtremesOfMergedBars() {
+        PriceSeries.Builder builder = new PriceSeries.Builder(100);
+        for (int i = 0; i < 100; i++) {
+            double high = i == 37 ? 500 : 101;
+            double low = i == 71 ? 10 : 99;
+            builder.add(millis(OPEN.plusMinutes(i)), 100, high, low, 100, 1);
+        }
+        PriceSeries source = builder.build();
+
+        PriceSeries sampled = PriceSeriesAggregator.downsample(source, 10);
+
+        assertThat(sampled.size()).isEqualTo(10);
+        assertThat(sampled.time(0)).isEqualTo(source.time(0));
+        assertThat(sampled.high(3)).isEqualTo(500.0);
+        assertThat(sampled.low(7)).isEqualTo(10.0);
+        long volume = 0;
+        for (int i = 0; i < sampled.size(); i++) {
+            volume += sampled.volume(i);
+        }
+        assertThat(volume).isEqualTo(100);
+        assertThat(PriceSeriesAggregator.downsample(source, 0)).isSameAs(source);
+    }
+
+    private static long millis(LocalDateTime dateTime) {
+        return PriceSeries.toEpochMillis(dateTime);
+    }
+}